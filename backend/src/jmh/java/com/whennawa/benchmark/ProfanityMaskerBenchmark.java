@@ -0,0 +1,100 @@
+package com.whennawa.benchmark;
+
+import com.whennawa.util.AhoCorasickMatcher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Regex-per-word masking (previous ProfanityMasker) vs the Aho-Corasick matcher,
+ * both loaded from the real profanity-words.txt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfanityMaskerBenchmark {
+    private static final String BLINDED_TEXT = "[블라인드]";
+
+    @Param({"clean", "dirty", "long"})
+    public String input;
+
+    private String text;
+    private List<Pattern> patterns;
+    private AhoCorasickMatcher matcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> words = loadWords();
+        patterns = new ArrayList<>(words.size());
+        for (String word : words) {
+            patterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+        }
+        matcher = AhoCorasickMatcher.build(words);
+        text = switch (input) {
+            case "clean" -> "오늘 1차 면접 결과 나왔나요? 저는 아직 연락이 없네요";
+            case "dirty" -> "아 진짜 시발 결과 언제 나와 존나 기다리는중 fuck";
+            default -> "서류 합격 발표 났다는 분 계신가요 저는 아직이에요 ".repeat(12) + "미친놈";
+        };
+    }
+
+    @Benchmark
+    public String regexMask() {
+        String sanitized = text;
+        for (Pattern pattern : patterns) {
+            sanitized = pattern.matcher(sanitized).replaceAll(BLINDED_TEXT);
+        }
+        return sanitized;
+    }
+
+    @Benchmark
+    public String automatonMask() {
+        return matcher.replaceAll(text, BLINDED_TEXT);
+    }
+
+    @Benchmark
+    public boolean regexContains() {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean automatonContains() {
+        return matcher.containsMatch(text);
+    }
+
+    private List<String> loadWords() throws IOException {
+        List<String> words = new ArrayList<>();
+        try (InputStream in = ProfanityMaskerBenchmark.class.getClassLoader().getResourceAsStream("profanity-words.txt")) {
+            if (in == null) {
+                throw new IOException("profanity-words.txt not found on classpath");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isBlank() && !word.startsWith("#")) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+}
@@ -13,13 +13,20 @@ public class AppProperties {
     private Chat chat = new Chat();
     private Auth auth = new Auth();
     private Scheduler scheduler = new Scheduler();
+    private Notification notification = new Notification();
+    private Home home = new Home();
+    private WebSocket websocket = new WebSocket();
+    private Block block = new Block();
+    private Search search = new Search();
+    private Board board = new Board();
+    private Review review = new Review();
 
     @Getter @Setter
     public static class Jwt {
         private String secret;
         private long accessTtlMinutes = 15;
         private long refreshTtlDays = 30;
-
+        private int claimsCacheMaxEntries = 10000;
     }
 
     @Getter @Setter
@@ -38,6 +45,57 @@ public class AppProperties {
         private long cooldownMs = 500;
         private int maxMessageLength = 300;
         private int recentFetchMax = 200;
+        private WriteBehind writeBehind = new WriteBehind();
+        private RecentCache recentCache = new RecentCache();
+        private NicknamePool nicknamePool = new NicknamePool();
+        private MembershipCache membershipCache = new MembershipCache();
+        private Presence presence = new Presence();
+        private Profanity profanity = new Profanity();
+
+        @Getter @Setter
+        public static class WriteBehind {
+            private boolean enabled = false;
+            private int batchSize = 100;
+            private long flushIntervalMs = 20;
+            private int queueCapacity = 10000;
+            private long enqueueTimeoutMs = 200;
+            private int idBlockSize = 1000;
+        }
+
+        @Getter @Setter
+        public static class RecentCache {
+            private long idleEvictMinutes = 10;
+            // relay 모드에서 DB 로 다시 채우는 주기
+            private long relayRefreshSeconds = 5;
+        }
+
+        @Getter @Setter
+        public static class NicknamePool {
+            private long idleEvictMinutes = 30;
+        }
+
+        @Getter @Setter
+        public static class MembershipCache {
+            // 다른 인스턴스에서 재입장/탈퇴한 멤버십이 반영되기까지의 최대 시간
+            private long ttlSeconds = 60;
+        }
+
+        @Getter @Setter
+        public static class Presence {
+            // relay 모드에서 하트비트가 끊긴 인스턴스의 접속자 수를 무시하기까지의 시간
+            private long instanceTtlSeconds = 90;
+            // relay 모드에서 다른 인스턴스 접속자 수를 다시 읽는 주기
+            private long sharedCountTtlMs = 2000;
+        }
+
+        @Getter @Setter
+        public static class Profanity {
+            private String file = "classpath:profanity-words.txt";
+            private boolean watchEnabled = true;
+            private long watchIntervalMs = 5000;
+            private boolean rewriteStale = true;
+            private long rewriteIntervalMs = 10000;
+        }
     }
 
     @Getter @Setter
@@ -47,6 +105,8 @@ public class AppProperties {
         private String loginNextCookieSameSite = "Lax";
         private boolean cookieSecure = false;
         private String cookieDomain;
+        private long principalCacheTtlSeconds = 30;
+        private int principalCacheMaxEntries = 10000;
     }
 
     @Getter @Setter
@@ -57,10 +117,121 @@ public class AppProperties {
         private long refreshRevokedRetentionDays = 1;
         private long notificationRetentionDays = 30;
     }
-}
 
+    @Getter @Setter
+    public static class Notification {
+        private long unreadReconcileMs = 300000;
+        private long unreadIdleEvictMinutes = 30;
+    }
 
+    @Getter @Setter
+    public static class Home {
+        private long hotWindowDays = 14;
+        private double hotHalfLifeHours = 24;
+        private int hotTopK = 10;
+        private long snapshotTtlSeconds = 30;
+        private long companyIdCacheTtlSeconds = 600;
+    }
 
+    @Getter @Setter
+    public static class Block {
+        private int cacheMaxUsers = 10000;
+        // 다른 인스턴스에서 바뀐 차단 목록이 반영되기까지의 최대 시간
+        private long cacheTtlSeconds = 30;
+    }
 
+    @Getter @Setter
+    public static class Board {
+        private long approximateTotalTtlSeconds = 60;
+        private long viewDedupeWindowSeconds = 600;
+        private int viewDedupeMaxEntries = 100000;
+    }
 
+    @Getter @Setter
+    public static class Review {
+        // 회사별 좋아요 순위를 DB 에서 다시 읽는 주기
+        private long leaderboardTtlSeconds = 300;
+    }
+
+    @Getter @Setter
+    public static class Search {
+        private SearchMode mode = SearchMode.AUTO;
+        // MySQL ngram_token_size 와 맞춘다. 이보다 짧은 검색어는 FULLTEXT 로 찾을 수 없다
+        private int minFullTextLength = 2;
+
+        public enum SearchMode {
+            AUTO,
+            FULLTEXT,
+            LIKE
+        }
+    }
+
+    @Getter @Setter
+    public static class WebSocket {
+        private Broker broker = new Broker();
+        private Transport transport = new Transport();
+        private Channels channels = new Channels();
+        private SlowConsumer slowConsumer = new SlowConsumer();
+
+        public enum BrokerMode {
+            SIMPLE,
+            RELAY
+        }
 
+        public enum SlowConsumerPolicy {
+            DROP_OLDEST,
+            DISCONNECT
+        }
+
+        @Getter @Setter
+        public static class Transport {
+            private int sendTimeLimitMs = 10000;
+            private int sendBufferSizeLimitBytes = 512 * 1024;
+            private int messageSizeLimitBytes = 64 * 1024;
+        }
+
+        @Getter @Setter
+        public static class Channels {
+            private ChannelPool inbound = new ChannelPool();
+            private ChannelPool outbound = new ChannelPool();
+        }
+
+        @Getter @Setter
+        public static class ChannelPool {
+            private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+            private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+            private int queueCapacity = 10000;
+        }
+
+        @Getter @Setter
+        public static class SlowConsumer {
+            private SlowConsumerPolicy policy = SlowConsumerPolicy.DROP_OLDEST;
+            // 세션별로 아직 전송되지 않은 메시지 수 한도
+            private int maxQueuedMessages = 256;
+        }
+
+        @Getter @Setter
+        public static class Broker {
+            private BrokerMode mode = BrokerMode.SIMPLE;
+            private Relay relay = new Relay();
+        }
+
+        @Getter @Setter
+        public static class Relay {
+            private String host = "localhost";
+            private int port = 61613;
+            private String virtualHost;
+            private String clientLogin = "guest";
+            private String clientPasscode = "guest";
+            private String systemLogin = "guest";
+            private String systemPasscode = "guest";
+            private long systemHeartbeatSendMs = 10000;
+            private long systemHeartbeatReceiveMs = 10000;
+            // 클라이언트 STOMP 세션마다 브로커 TCP 연결이 하나씩 필요하다
+            private int maxConnections = 10000;
+            private long connectTimeoutMs = 5000;
+            private long reconnectInitialMs = 1000;
+            private long reconnectMaxMs = 30000;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.whennawa.config;
+
+import com.whennawa.service.ChatDeliveryFilter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Drops per-subscriber copies of chat messages from senders the recipient has blocked.
+ * The broker shares one serialized payload across all copies, so filtering costs a few map lookups per subscriber.
+ */
+public class ChatDeliveryInterceptor implements ChannelInterceptor {
+    private final ChatDeliveryFilter chatDeliveryFilter;
+
+    public ChatDeliveryInterceptor(ChatDeliveryFilter chatDeliveryFilter) {
+        this.chatDeliveryFilter = chatDeliveryFilter;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        return chatDeliveryFilter.shouldDeliver(message) ? message : null;
+    }
+}
@@ -1,11 +1,12 @@
 package com.whennawa.config;
 
-import com.whennawa.repository.UserRepository;
 import com.whennawa.security.JwtAuthenticationFilter;
 import com.whennawa.security.JwtService;
 import com.whennawa.security.RequestLoggingFilter;
+import com.whennawa.security.UserPrincipalCache;
 import com.whennawa.service.AuthCookieService;
 import com.whennawa.service.OAuthAccountService;
+import com.whennawa.service.RefreshTokenCoalescer;
 import com.whennawa.service.RefreshTokenService;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -117,10 +118,10 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(JwtService jwtService,
-                                                           UserRepository userRepository,
-                                                           RefreshTokenService refreshTokenService,
+                                                           UserPrincipalCache userPrincipalCache,
+                                                           RefreshTokenCoalescer refreshTokenCoalescer,
                                                            AuthCookieService authCookieService) {
-        return new JwtAuthenticationFilter(jwtService, userRepository, refreshTokenService, authCookieService);
+        return new JwtAuthenticationFilter(jwtService, userPrincipalCache, refreshTokenCoalescer, authCookieService);
     }
 
     @Bean
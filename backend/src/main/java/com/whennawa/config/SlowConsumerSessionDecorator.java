@@ -0,0 +1,163 @@
+package com.whennawa.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Per-session outbound buffer in the spirit of {@code ConcurrentWebSocketSessionDecorator}:
+ * one thread writes to the socket while other outbound threads only enqueue, so a slow client
+ * never holds more than one channel thread.
+ * When the buffer exceeds the message-count or byte limit the configured policy either drops the
+ * oldest buffered messages or closes the session. Exceeding the send time limit always closes it.
+ */
+public class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimitBytes;
+    private final int maxQueuedMessages;
+    private final AppProperties.WebSocket.SlowConsumerPolicy policy;
+    private final Meters meters;
+
+    private final Queue<Pending> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+    private final Lock flushLock = new ReentrantLock();
+    private final Lock limitLock = new ReentrantLock();
+    private volatile long sendStartNanos;
+    private final AtomicBoolean limitExceeded = new AtomicBoolean();
+    private volatile boolean closeInProgress;
+
+    public SlowConsumerSessionDecorator(WebSocketSession delegate,
+                                        int sendTimeLimitMs,
+                                        int bufferSizeLimitBytes,
+                                        int maxQueuedMessages,
+                                        AppProperties.WebSocket.SlowConsumerPolicy policy,
+                                        Meters meters) {
+        super(delegate);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+        this.maxQueuedMessages = maxQueuedMessages;
+        this.policy = policy;
+        this.meters = meters;
+    }
+
+    public int getQueuedMessages() {
+        return queuedMessages.get();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (shouldNotSend()) {
+            return;
+        }
+        buffer.add(new Pending(message, System.nanoTime()));
+        queuedMessages.incrementAndGet();
+        queuedBytes.addAndGet(message.getPayloadLength());
+        checkSendTime();
+
+        do {
+            if (!tryFlush()) {
+                checkBufferLimits();
+                break;
+            }
+        } while (!buffer.isEmpty() && !shouldNotSend());
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closeInProgress = true;
+        super.close(status);
+    }
+
+    private boolean shouldNotSend() {
+        return limitExceeded.get() || closeInProgress;
+    }
+
+    private boolean tryFlush() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            Pending pending;
+            while (!shouldNotSend() && (pending = buffer.poll()) != null) {
+                queuedMessages.decrementAndGet();
+                queuedBytes.addAndGet(-pending.message().getPayloadLength());
+                sendStartNanos = System.nanoTime();
+                getDelegate().sendMessage(pending.message());
+                meters.sendLatency().record(System.nanoTime() - pending.queuedAtNanos(), TimeUnit.NANOSECONDS);
+                sendStartNanos = 0L;
+            }
+            return true;
+        } finally {
+            sendStartNanos = 0L;
+            flushLock.unlock();
+        }
+    }
+
+    // 쓰기 중인 스레드가 막혀 있는지는 락 없이 매 enqueue 마다 확인한다
+    private void checkSendTime() {
+        long startedAt = sendStartNanos;
+        if (!shouldNotSend() && startedAt != 0L
+            && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) > sendTimeLimitMs) {
+            disconnect("Send time limit exceeded (" + sendTimeLimitMs + " ms)");
+        }
+    }
+
+    private void checkBufferLimits() {
+        if (shouldNotSend() || !limitLock.tryLock()) {
+            return;
+        }
+        try {
+            if (queuedMessages.get() <= maxQueuedMessages && queuedBytes.get() <= bufferSizeLimitBytes) {
+                return;
+            }
+            if (policy == AppProperties.WebSocket.SlowConsumerPolicy.DISCONNECT) {
+                disconnect("Outbound buffer limit exceeded (" + queuedMessages.get() + " messages)");
+            }
+            // 오래된 메시지부터 버린다. 채팅은 최신 메시지가 더 중요하다
+            Pending dropped;
+            while ((queuedMessages.get() > maxQueuedMessages || queuedBytes.get() > bufferSizeLimitBytes)
+                && (dropped = buffer.poll()) != null) {
+                queuedMessages.decrementAndGet();
+                queuedBytes.addAndGet(-dropped.message().getPayloadLength());
+                meters.dropped().increment();
+            }
+        } finally {
+            limitLock.unlock();
+        }
+    }
+
+    private void disconnect(String reason) {
+        if (limitExceeded.compareAndSet(false, true)) {
+            meters.disconnected().increment();
+        }
+        Pending discarded;
+        while ((discarded = buffer.poll()) != null) {
+            queuedMessages.decrementAndGet();
+            queuedBytes.addAndGet(-discarded.message().getPayloadLength());
+            meters.dropped().increment();
+        }
+        // SubProtocolWebSocketHandler 가 이 예외를 받아 세션을 닫는다
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private record Pending(WebSocketMessage<?> message, long queuedAtNanos) {
+    }
+
+    public record Meters(Counter dropped,
+                         Counter disconnected,
+                         Timer sendLatency) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.whennawa.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * Decorates every client session with {@link SlowConsumerSessionDecorator} instead of Spring's
+ * terminate-only {@code ConcurrentWebSocketSessionDecorator}. Each open session exposes its outbound
+ * buffer depth as a gauge tagged with the session id, removed when the session closes.
+ */
+public class SlowConsumerWebSocketHandler extends SubProtocolWebSocketHandler {
+    private final AppProperties.WebSocket.SlowConsumer settings;
+    private final SlowConsumerSessionDecorator.Meters meters;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Gauge> queueDepthGauges = new ConcurrentHashMap<>();
+
+    public SlowConsumerWebSocketHandler(MessageChannel clientInboundChannel,
+                                        SubscribableChannel clientOutboundChannel,
+                                        AppProperties.WebSocket.SlowConsumer settings,
+                                        MeterRegistry meterRegistry) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.meters = new SlowConsumerSessionDecorator.Meters(
+            Counter.builder("websocket.session.outbound.dropped")
+                .description("Messages dropped for slow consumers")
+                .register(meterRegistry),
+            Counter.builder("websocket.session.slow_consumer.disconnected")
+                .description("Sessions closed because they could not keep up")
+                .register(meterRegistry),
+            Timer.builder("websocket.session.outbound.send.latency")
+                .description("Time from queueing a message for a session to writing it")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+        );
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        SlowConsumerSessionDecorator decorated = new SlowConsumerSessionDecorator(
+            session,
+            getSendTimeLimit(),
+            getSendBufferSizeLimit(),
+            Math.max(1, settings.getMaxQueuedMessages()),
+            settings.getPolicy(),
+            meters
+        );
+        queueDepthGauges.put(session.getId(),
+            Gauge.builder("websocket.session.outbound.queue.depth", decorated,
+                    SlowConsumerSessionDecorator::getQueuedMessages)
+                .description("Messages waiting in the session's outbound buffer")
+                .tag("session", session.getId())
+                .register(meterRegistry));
+        return decorated;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            Gauge gauge = queueDepthGauges.remove(session.getId());
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+        }
+    }
+}
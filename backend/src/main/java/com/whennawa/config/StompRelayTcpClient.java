@@ -0,0 +1,75 @@
+package com.whennawa.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.ReconnectStrategy;
+import org.springframework.messaging.tcp.TcpConnectionHandler;
+import org.springframework.messaging.tcp.TcpOperations;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpClient;
+
+/**
+ * TCP client for the STOMP broker relay with a bounded connection pool and a configurable
+ * exponential reconnect backoff. The relay's built-in system session reconnect is a fixed 5 seconds,
+ * so the strategy it passes in is replaced here.
+ */
+public class StompRelayTcpClient implements TcpOperations<byte[]> {
+    private final ConnectionProvider connectionProvider;
+    private final ReactorNettyTcpClient<byte[]> delegate;
+    private final ReconnectStrategy reconnectStrategy;
+
+    public StompRelayTcpClient(AppProperties.WebSocket.Relay relay) {
+        this.connectionProvider = ConnectionProvider.builder("stomp-broker-relay")
+            .maxConnections(Math.max(1, relay.getMaxConnections()))
+            .pendingAcquireTimeout(Duration.ofMillis(relay.getConnectTimeoutMs()))
+            .build();
+        TcpClient tcpClient = TcpClient.create(connectionProvider)
+            .host(relay.getHost())
+            .port(relay.getPort())
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Integer.MAX_VALUE, relay.getConnectTimeoutMs()));
+        this.delegate = new ReactorNettyTcpClient<>(tcpClient, new StompReactorNettyCodec());
+        this.reconnectStrategy = new BackoffReconnectStrategy(relay.getReconnectInitialMs(), relay.getReconnectMaxMs());
+    }
+
+    @Override
+    public CompletableFuture<Void> connectAsync(TcpConnectionHandler<byte[]> connectionHandler) {
+        return delegate.connectAsync(connectionHandler);
+    }
+
+    @Override
+    public CompletableFuture<Void> connectAsync(TcpConnectionHandler<byte[]> connectionHandler,
+                                                ReconnectStrategy ignored) {
+        return delegate.connectAsync(connectionHandler, reconnectStrategy);
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdownAsync() {
+        // 외부에서 만든 TcpClient 는 delegate 가 정리하지 않으므로 풀도 직접 닫는다
+        return delegate.shutdownAsync()
+            .whenComplete((result, ex) -> connectionProvider.disposeLater().subscribe());
+    }
+
+    @Override
+    public String toString() {
+        return "StompRelayTcpClient[" + delegate + "]";
+    }
+
+    static final class BackoffReconnectStrategy implements ReconnectStrategy {
+        private final long initialMs;
+        private final long maxMs;
+
+        BackoffReconnectStrategy(long initialMs, long maxMs) {
+            this.initialMs = Math.max(1, initialMs);
+            this.maxMs = Math.max(this.initialMs, maxMs);
+        }
+
+        @Override
+        public Long getTimeToNextAttempt(int attemptCount) {
+            int shift = Math.min(Math.max(attemptCount, 0), 20);
+            return Math.min(maxMs, initialMs << shift);
+        }
+    }
+}
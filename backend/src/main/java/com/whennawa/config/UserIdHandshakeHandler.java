@@ -0,0 +1,26 @@
+package com.whennawa.config;
+
+import java.security.Principal;
+import java.util.Map;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * Names the STOMP session after the authenticated user id so that
+ * {@code /user/queue/**} destinations resolve to the right sessions.
+ */
+public class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request,
+                                      WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Object userId = attributes.get(WebSocketAuthHandshakeInterceptor.USER_ID_ATTR);
+        if (userId == null) {
+            return null;
+        }
+        String name = String.valueOf(userId);
+        return () -> name;
+    }
+}
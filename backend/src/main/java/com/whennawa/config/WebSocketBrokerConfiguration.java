@@ -0,0 +1,38 @@
+package com.whennawa.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * Replaces {@code @EnableWebSocketMessageBroker} so the sub-protocol handler can apply the slow-consumer policy.
+ * Everything else is still configured through {@link WebSocketConfig}.
+ */
+@Configuration
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+
+    public WebSocketBrokerConfiguration(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+        @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+        @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel
+    ) {
+        return new SlowConsumerWebSocketHandler(
+            clientInboundChannel,
+            clientOutboundChannel,
+            appProperties.getWebsocket().getSlowConsumer(),
+            meterRegistry
+        );
+    }
+}
@@ -1,29 +1,96 @@
 package com.whennawa.config;
 
+import com.whennawa.service.ChatDeliveryFilter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// 브로커 인프라 자체는 WebSocketBrokerConfiguration 이 등록한다
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    static final String[] BROKER_PREFIXES = {"/sub", "/queue"};
+    // 다른 인스턴스에 붙은 사용자에게 보낼 /user 메시지를 브로커로 전파하는 목적지
+    static final String USER_DESTINATION_BROADCAST = "/sub/system/unresolved-user";
+
+    private final AppProperties appProperties;
+    private final ChatDeliveryFilter chatDeliveryFilter;
+
+    public WebSocketConfig(AppProperties appProperties, ChatDeliveryFilter chatDeliveryFilter) {
+        this.appProperties = appProperties;
+        this.chatDeliveryFilter = chatDeliveryFilter;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        AppProperties.WebSocket.Broker broker = appProperties.getWebsocket().getBroker();
+        if (broker.getMode() == AppProperties.WebSocket.BrokerMode.RELAY) {
+            configureRelay(registry, broker.getRelay());
+        } else {
+            registry.enableSimpleBroker(BROKER_PREFIXES);
+        }
         registry.setApplicationDestinationPrefixes("/pub");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        AppProperties.WebSocket.Transport transport = appProperties.getWebsocket().getTransport();
+        registration.setSendTimeLimit(transport.getSendTimeLimitMs())
+            .setSendBufferSizeLimit(transport.getSendBufferSizeLimitBytes())
+            .setMessageSizeLimit(transport.getMessageSizeLimitBytes());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, appProperties.getWebsocket().getChannels().getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, appProperties.getWebsocket().getChannels().getOutbound());
+        registration.interceptors(new ChatDeliveryInterceptor(chatDeliveryFilter));
+    }
+
+    private void configureExecutor(ChannelRegistration registration, AppProperties.WebSocket.ChannelPool pool) {
+        int corePoolSize = Math.max(1, pool.getCorePoolSize());
+        registration.taskExecutor()
+            .corePoolSize(corePoolSize)
+            .maxPoolSize(Math.max(corePoolSize, pool.getMaxPoolSize()))
+            .queueCapacity(Math.max(0, pool.getQueueCapacity()));
+    }
+
+    private void configureRelay(MessageBrokerRegistry registry, AppProperties.WebSocket.Relay relay) {
+        StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay(BROKER_PREFIXES)
+            .setRelayHost(relay.getHost())
+            .setRelayPort(relay.getPort())
+            .setClientLogin(relay.getClientLogin())
+            .setClientPasscode(relay.getClientPasscode())
+            .setSystemLogin(relay.getSystemLogin())
+            .setSystemPasscode(relay.getSystemPasscode())
+            .setSystemHeartbeatSendInterval(relay.getSystemHeartbeatSendMs())
+            .setSystemHeartbeatReceiveInterval(relay.getSystemHeartbeatReceiveMs())
+            .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST)
+            .setTcpClient(new StompRelayTcpClient(relay));
+        if (StringUtils.hasText(relay.getVirtualHost())) {
+            registration.setVirtualHost(relay.getVirtualHost());
+        }
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/api/ws-stomp")
+            .setHandshakeHandler(new UserIdHandshakeHandler())
             .addInterceptors(new WebSocketAuthHandshakeInterceptor())
             .setAllowedOriginPatterns("*")
             .withSockJS();
 
         registry.addEndpoint("/ws-stomp")
+            .setHandshakeHandler(new UserIdHandshakeHandler())
             .addInterceptors(new WebSocketAuthHandshakeInterceptor())
             .setAllowedOriginPatterns("*")
             .withSockJS();
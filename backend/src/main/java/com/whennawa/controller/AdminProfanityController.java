@@ -0,0 +1,39 @@
+package com.whennawa.controller;
+
+import com.whennawa.dto.chat.ProfanityDictionaryResponse;
+import com.whennawa.security.UserPrincipal;
+import com.whennawa.service.ProfanityMasker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/admin/profanity")
+@RequiredArgsConstructor
+public class AdminProfanityController {
+    private final ProfanityMasker profanityMasker;
+
+    @GetMapping
+    public ProfanityDictionaryResponse current(Authentication authentication) {
+        ensureAuthenticated(authentication);
+        return new ProfanityDictionaryResponse(profanityMasker.wordCount(), profanityMasker.currentVersion());
+    }
+
+    @PostMapping("/reload")
+    public ProfanityDictionaryResponse reload(Authentication authentication) {
+        ensureAuthenticated(authentication);
+        profanityMasker.reloadPatterns();
+        return new ProfanityDictionaryResponse(profanityMasker.wordCount(), profanityMasker.currentVersion());
+    }
+
+    private void ensureAuthenticated(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.whennawa.service.AuthCookieService;
 import com.whennawa.service.AccountService;
 import com.whennawa.exception.AuthTokenException;
 import com.whennawa.repository.UserRepository;
+import com.whennawa.service.RefreshTokenCoalescer;
 import com.whennawa.service.RefreshTokenService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -32,17 +33,20 @@ import org.springframework.web.server.ResponseStatusException;
 @Slf4j
 public class AuthController {
     private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCoalescer refreshTokenCoalescer;
     private final JwtService jwtService;
     private final AuthCookieService authCookieService;
     private final AccountService accountService;
     private final UserRepository userRepository;
 
     public AuthController(RefreshTokenService refreshTokenService,
+                          RefreshTokenCoalescer refreshTokenCoalescer,
                           JwtService jwtService,
                           AuthCookieService authCookieService,
                           AccountService accountService,
                           UserRepository userRepository) {
         this.refreshTokenService = refreshTokenService;
+        this.refreshTokenCoalescer = refreshTokenCoalescer;
         this.jwtService = jwtService;
         this.authCookieService = authCookieService;
         this.accountService = accountService;
@@ -56,10 +60,9 @@ public class AuthController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing refresh token");
         }
         try {
-            RefreshTokenService.RotationResult rotation = refreshTokenService.rotateToken(refreshToken);
-            String accessToken = jwtService.createAccessToken(rotation.user());
-            authCookieService.setAuthCookies(response, accessToken, rotation.refreshToken());
-            return new AuthTokensResponse(accessToken);
+            RefreshTokenCoalescer.RotatedTokens rotated = refreshTokenCoalescer.rotate(refreshToken);
+            authCookieService.setAuthCookies(response, rotated.accessToken(), rotated.refreshToken());
+            return new AuthTokensResponse(rotated.accessToken());
         } catch (AuthTokenException ex) {
             authCookieService.clearAuthCookies(response);
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token", ex);
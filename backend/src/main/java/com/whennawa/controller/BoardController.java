@@ -7,8 +7,10 @@ import com.whennawa.dto.board.BoardPageResponse;
 import com.whennawa.dto.board.BoardPostCreateRequest;
 import com.whennawa.dto.board.BoardPostResponse;
 import com.whennawa.dto.board.BoardPostUpdateRequest;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.security.UserPrincipal;
 import com.whennawa.service.BoardService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -40,12 +42,23 @@ public class BoardController {
         return boardService.listPosts(companyName, page, size, principal == null ? null : principal.getUserId());
     }
 
+    @GetMapping("/{companyName}/posts/cursor")
+    public CursorPageResponse<BoardPostResponse> postsByCursor(@PathVariable("companyName") String companyName,
+                                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                                               @RequestParam(value = "size", defaultValue = "20") Integer size,
+                                                               Authentication authentication) {
+        UserPrincipal principal = extractPrincipal(authentication);
+        return boardService.listPostsByCursor(companyName, cursor, size, principal == null ? null : principal.getUserId());
+    }
+
     @GetMapping("/{companyName}/posts/{postId}")
     public BoardPostResponse post(@PathVariable("companyName") String companyName,
                                   @PathVariable("postId") Long postId,
-                                  Authentication authentication) {
+                                  Authentication authentication,
+                                  HttpServletRequest request) {
         UserPrincipal principal = extractPrincipal(authentication);
-        return boardService.getPost(companyName, postId, principal == null ? null : principal.getUserId());
+        return boardService.getPost(companyName, postId, principal == null ? null : principal.getUserId(),
+            request.getRemoteAddr());
     }
 
     @GetMapping("/{companyName}/posts/search")
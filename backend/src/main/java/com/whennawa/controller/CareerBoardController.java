@@ -7,8 +7,10 @@ import com.whennawa.dto.board.BoardPageResponse;
 import com.whennawa.dto.board.BoardPostCreateRequest;
 import com.whennawa.dto.board.BoardPostResponse;
 import com.whennawa.dto.board.BoardPostUpdateRequest;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.security.UserPrincipal;
 import com.whennawa.service.CareerBoardService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -39,11 +41,21 @@ public class CareerBoardController {
         return careerBoardService.listPosts(page, size, principal == null ? null : principal.getUserId());
     }
 
+    @GetMapping("/posts/cursor")
+    public CursorPageResponse<BoardPostResponse> postsByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                               @RequestParam(value = "size", defaultValue = "20") Integer size,
+                                                               Authentication authentication) {
+        UserPrincipal principal = extractPrincipal(authentication);
+        return careerBoardService.listPostsByCursor(cursor, size, principal == null ? null : principal.getUserId());
+    }
+
     @GetMapping("/posts/{postId}")
     public BoardPostResponse post(@PathVariable("postId") Long postId,
-                                  Authentication authentication) {
+                                  Authentication authentication,
+                                  HttpServletRequest request) {
         UserPrincipal principal = extractPrincipal(authentication);
-        return careerBoardService.getPost(postId, principal == null ? null : principal.getUserId());
+        return careerBoardService.getPost(postId, principal == null ? null : principal.getUserId(),
+            request.getRemoteAddr());
     }
 
     @GetMapping("/posts/search")
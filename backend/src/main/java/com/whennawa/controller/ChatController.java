@@ -3,6 +3,7 @@ package com.whennawa.controller;
 import com.whennawa.config.WebSocketAuthHandshakeInterceptor;
 import com.whennawa.dto.chat.ChatMessageRequest;
 import com.whennawa.dto.chat.ChatMessageResponse;
+import com.whennawa.service.ChatDeliveryFilter;
 import com.whennawa.service.ChatService;
 import jakarta.validation.Valid;
 import java.util.Map;
@@ -22,11 +23,12 @@ public class ChatController {
 
     @MessageMapping("/chat/message")
     public void sendMessage(@Valid ChatMessageRequest request,
-                            @Header(name = "simpSessionAttributes", required = false) Map<String, Object> sessionAttributes) {
+                            @Header(name = "simpSessionAttributes", required = false) Map<String, Object> sessionAttributes,
+                            @Header(name = "simpSessionId", required = false) String sessionId) {
         Long userId = extractUserId(sessionAttributes);
-        ChatMessageResponse response = chatService.processAndSave(request, userId);
+        ChatMessageResponse response = chatService.processAndSave(request, userId, sessionId);
         String destination = "/sub/chat/room/" + response.companyId();
-        messagingTemplate.convertAndSend(destination, response);
+        messagingTemplate.convertAndSend(destination, response, ChatDeliveryFilter.withSender(response.senderUserId()));
     }
 
     private Long extractUserId(Map<String, Object> sessionAttributes) {
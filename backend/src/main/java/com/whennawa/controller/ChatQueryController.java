@@ -1,11 +1,16 @@
 package com.whennawa.controller;
 
+import com.whennawa.dto.chat.ChatHistoryResponse;
 import com.whennawa.dto.chat.ChatJoinResponse;
 import com.whennawa.dto.chat.ChatMessageResponse;
+import com.whennawa.dto.chat.ChatPresenceResponse;
 import com.whennawa.security.UserPrincipal;
+import com.whennawa.service.ChatPresenceTracker;
 import com.whennawa.service.ChatService;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +26,7 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class ChatQueryController {
     private final ChatService chatService;
+    private final ChatPresenceTracker chatPresenceTracker;
 
     @GetMapping("/room/{companyId}/messages")
     public List<ChatMessageResponse> messages(@PathVariable("companyId") Long companyId,
@@ -30,6 +36,24 @@ public class ChatQueryController {
         return chatService.listRecentMessages(companyId, limit, principal == null ? null : principal.getUserId());
     }
 
+    @GetMapping("/room/{companyId}/messages/history")
+    public ChatHistoryResponse history(@PathVariable("companyId") Long companyId,
+                                       @RequestParam("before") Long before,
+                                       @RequestParam(value = "beforeAt", required = false)
+                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeAt,
+                                       @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                       Authentication authentication) {
+        UserPrincipal principal = extractPrincipal(authentication);
+        return chatService.listMessagesBefore(companyId, before, beforeAt, limit,
+            principal == null ? null : principal.getUserId());
+    }
+
+    // 이후 변경분은 /sub/chat/room/{companyId}/presence 로 전달된다
+    @GetMapping("/room/{companyId}/presence")
+    public ChatPresenceResponse presence(@PathVariable("companyId") Long companyId) {
+        return new ChatPresenceResponse(companyId, chatPresenceTracker.count(companyId));
+    }
+
     @PostMapping("/room/{companyId}/join")
     public ChatJoinResponse join(Authentication authentication,
                                  @PathVariable("companyId") Long companyId) {
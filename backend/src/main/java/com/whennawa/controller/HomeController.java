@@ -3,9 +3,15 @@ package com.whennawa.controller;
 import com.whennawa.dto.home.HomeHotCompanyItem;
 import com.whennawa.dto.home.HomeLatestReportItem;
 import com.whennawa.dto.interview.InterviewReviewItem;
-import com.whennawa.service.HomeService;
+import com.whennawa.service.HomeSnapshotService;
+import com.whennawa.service.HomeSnapshotService.HomeSnapshot;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,30 +19,53 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/home")
 public class HomeController {
-    private final HomeService homeService;
+    private final HomeSnapshotService homeSnapshotService;
 
-    public HomeController(HomeService homeService) {
-        this.homeService = homeService;
+    public HomeController(HomeSnapshotService homeSnapshotService) {
+        this.homeSnapshotService = homeSnapshotService;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> snapshot(
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        HomeSnapshot snapshot = homeSnapshotService.current();
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(snapshot.etag())
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.json());
     }
 
     @GetMapping("/latest-reports")
     public List<HomeLatestReportItem> latestReports(
         @RequestParam(value = "limit", required = false) Integer limit
     ) {
-        return homeService.listLatestReports(limit);
+        return limit(homeSnapshotService.current().data().getLatestReports(), limit);
     }
 
     @GetMapping("/hot-companies")
     public List<HomeHotCompanyItem> hotCompanies(
         @RequestParam(value = "limit", required = false) Integer limit
     ) {
-        return homeService.listHotCompanies(limit);
+        return limit(homeSnapshotService.current().data().getHotCompanies(), limit);
     }
 
     @GetMapping("/latest-interview-reviews")
     public List<InterviewReviewItem> latestInterviewReviews(
         @RequestParam(value = "limit", required = false) Integer limit
     ) {
-        return homeService.listLatestInterviewReviews(limit);
+        return limit(homeSnapshotService.current().data().getLatestInterviewReviews(), limit);
+    }
+
+    private <T> List<T> limit(List<T> items, Integer limit) {
+        int safeLimit = limit == null ? 3 : Math.max(1, Math.min(limit, HomeSnapshotService.SNAPSHOT_ITEM_LIMIT));
+        return items.size() <= safeLimit ? items : items.subList(0, safeLimit);
     }
 }
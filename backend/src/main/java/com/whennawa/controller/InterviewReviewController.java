@@ -1,6 +1,7 @@
 package com.whennawa.controller;
 
 import com.whennawa.dto.board.BoardPageResponse;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.dto.interview.InterviewReviewItem;
 import com.whennawa.dto.interview.InterviewReviewSort;
 import com.whennawa.entity.enums.RecruitmentMode;
@@ -52,6 +53,18 @@ public class InterviewReviewController {
         return interviewReviewService.listPage(companyName, page, size, mode, stepName, sort, principal == null ? null : principal.getUserId());
     }
 
+    @GetMapping("/api/companies/{companyName}/interview-reviews/cursor")
+    public CursorPageResponse<InterviewReviewItem> listByCursor(@PathVariable("companyName") String companyName,
+                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", defaultValue = "20") Integer size,
+                                                                @RequestParam(value = "mode", required = false) RecruitmentMode mode,
+                                                                @RequestParam(value = "stepName", required = false) String stepName,
+                                                                @RequestParam(value = "sort", defaultValue = "LIKES") InterviewReviewSort sort,
+                                                                Authentication authentication) {
+        UserPrincipal principal = extractPrincipal(authentication);
+        return interviewReviewService.listPageByCursor(companyName, cursor, size, mode, stepName, sort, principal == null ? null : principal.getUserId());
+    }
+
     @PostMapping("/api/interview-reviews/{reviewId}/like")
     @ResponseStatus(HttpStatus.OK)
     public InterviewReviewItem like(@PathVariable("reviewId") Long reviewId,
@@ -3,6 +3,7 @@ package com.whennawa.controller;
 import com.whennawa.dto.notification.NotificationPageResponse;
 import com.whennawa.dto.notification.NotificationSubscriptionCreateRequest;
 import com.whennawa.dto.notification.NotificationSubscriptionResponse;
+import com.whennawa.dto.notification.NotificationUnreadCountResponse;
 import com.whennawa.dto.notification.UserNotificationResponse;
 import com.whennawa.security.UserPrincipal;
 import com.whennawa.service.NotificationService;
@@ -63,6 +64,20 @@ public class NotificationController {
         return notificationService.listInbox(principal.getUserId(), page, size);
     }
 
+    @GetMapping("/unread-count")
+    public NotificationUnreadCountResponse unreadCount(Authentication authentication) {
+        UserPrincipal principal = requirePrincipal(authentication);
+        return new NotificationUnreadCountResponse(notificationService.countUnread(principal.getUserId()));
+    }
+
+    @PostMapping("/{notificationId}/read")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void markRead(@PathVariable("notificationId") Long notificationId,
+                         Authentication authentication) {
+        UserPrincipal principal = requirePrincipal(authentication);
+        notificationService.markRead(principal.getUserId(), notificationId);
+    }
+
     @DeleteMapping("/{notificationId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteNotification(@PathVariable("notificationId") Long notificationId,
@@ -0,0 +1,53 @@
+package com.whennawa.controller;
+
+import com.whennawa.config.WebSocketAuthHandshakeInterceptor;
+import com.whennawa.dto.notification.NotificationCatchUpRequest;
+import com.whennawa.dto.notification.UserNotificationResponse;
+import com.whennawa.service.NotificationPushService;
+import com.whennawa.service.NotificationService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.server.ResponseStatusException;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationSocketController {
+    private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
+
+    // 재연결 시 마지막으로 받은 알림(updatedAt, id) 이후에 생기거나 갱신된 알림을 /user/queue/notifications 로 다시 보내준다
+    @MessageMapping("/notifications/catch-up")
+    public void catchUp(NotificationCatchUpRequest request,
+                        @Header(name = "simpSessionAttributes", required = false) Map<String, Object> sessionAttributes) {
+        Long userId = extractUserId(sessionAttributes);
+        Long lastSeenId = request == null ? null : request.getLastSeenNotificationId();
+        LocalDateTime lastSeenUpdatedAt = request == null ? null : request.getLastSeenUpdatedAt();
+        List<UserNotificationResponse> missed = notificationService.listSince(userId, lastSeenId, lastSeenUpdatedAt);
+        long unreadCount = notificationService.countUnread(userId);
+        notificationPushService.pushCatchUp(userId, missed, unreadCount);
+    }
+
+    private Long extractUserId(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated");
+        }
+        Object value = sessionAttributes.get(WebSocketAuthHandshakeInterceptor.USER_ID_ATTR);
+        if (value instanceof Long userId) {
+            return userId;
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ignored) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated");
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated");
+    }
+}
@@ -11,6 +11,7 @@ public class BoardPostResponse {
     private final Long authorUserId;
     private final String authorName;
     private final LocalDateTime createdAt;
+    private final long viewCount;
 
     public BoardPostResponse(Long postId,
                              Long companyId,
@@ -19,7 +20,8 @@ public class BoardPostResponse {
                              String content,
                              Long authorUserId,
                              String authorName,
-                             LocalDateTime createdAt) {
+                             LocalDateTime createdAt,
+                             long viewCount) {
         this.postId = postId;
         this.companyId = companyId;
         this.companyName = companyName;
@@ -28,6 +30,7 @@ public class BoardPostResponse {
         this.authorUserId = authorUserId;
         this.authorName = authorName;
         this.createdAt = createdAt;
+        this.viewCount = viewCount;
     }
 
     public Long getPostId() {
@@ -61,4 +64,8 @@ public class BoardPostResponse {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public long getViewCount() {
+        return viewCount;
+    }
 }
@@ -0,0 +1,10 @@
+package com.whennawa.dto.board;
+
+import java.util.List;
+
+/**
+ * @param nextCursor cursor for the next page; {@code null} when {@code hasNext} is false
+ * @param approximateTotal cached total that may lag behind recent writes
+ */
+public record CursorPageResponse<T>(List<T> items, String nextCursor, boolean hasNext, long approximateTotal) {
+}
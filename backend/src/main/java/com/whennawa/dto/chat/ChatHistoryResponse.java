@@ -0,0 +1,11 @@
+package com.whennawa.dto.chat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param nextBefore   cursor message id for the next older page; {@code null} when there is nothing older
+ * @param nextBeforeAt created time of that message, sent back as {@code beforeAt}
+ */
+public record ChatHistoryResponse(List<ChatMessageResponse> messages, Long nextBefore, LocalDateTime nextBeforeAt) {
+}
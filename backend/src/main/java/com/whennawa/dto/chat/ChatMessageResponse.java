@@ -3,6 +3,7 @@ package com.whennawa.dto.chat;
 import java.time.LocalDateTime;
 
 public record ChatMessageResponse(
+    Long messageId,
     Long companyId,
     Long senderUserId,
     String senderNickname,
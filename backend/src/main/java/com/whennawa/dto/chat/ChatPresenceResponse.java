@@ -0,0 +1,4 @@
+package com.whennawa.dto.chat;
+
+public record ChatPresenceResponse(Long companyId, long count) {
+}
@@ -0,0 +1,19 @@
+package com.whennawa.dto.chat;
+
+public class ProfanityDictionaryResponse {
+    private final int wordCount;
+    private final String version;
+
+    public ProfanityDictionaryResponse(int wordCount, String version) {
+        this.wordCount = wordCount;
+        this.version = version;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
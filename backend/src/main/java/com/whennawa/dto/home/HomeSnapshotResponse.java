@@ -0,0 +1,38 @@
+package com.whennawa.dto.home;
+
+import com.whennawa.dto.interview.InterviewReviewItem;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class HomeSnapshotResponse {
+    private final List<HomeLatestReportItem> latestReports;
+    private final List<HomeHotCompanyItem> hotCompanies;
+    private final List<InterviewReviewItem> latestInterviewReviews;
+    private final LocalDateTime generatedAt;
+
+    public HomeSnapshotResponse(List<HomeLatestReportItem> latestReports,
+                                List<HomeHotCompanyItem> hotCompanies,
+                                List<InterviewReviewItem> latestInterviewReviews,
+                                LocalDateTime generatedAt) {
+        this.latestReports = latestReports;
+        this.hotCompanies = hotCompanies;
+        this.latestInterviewReviews = latestInterviewReviews;
+        this.generatedAt = generatedAt;
+    }
+
+    public List<HomeLatestReportItem> getLatestReports() {
+        return latestReports;
+    }
+
+    public List<HomeHotCompanyItem> getHotCompanies() {
+        return hotCompanies;
+    }
+
+    public List<InterviewReviewItem> getLatestInterviewReviews() {
+        return latestInterviewReviews;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.whennawa.dto.notification;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class NotificationCatchUpRequest {
+    private Long lastSeenNotificationId;
+    // 마지막으로 받은 알림의 updatedAt. 같은 알림이 갱신(제보자 수 증가)돼도 다시 받기 위한 커서
+    private LocalDateTime lastSeenUpdatedAt;
+}
@@ -0,0 +1,13 @@
+package com.whennawa.dto.notification;
+
+public class NotificationUnreadCountResponse {
+    private final long unreadCount;
+
+    public NotificationUnreadCountResponse(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+}
@@ -39,6 +39,14 @@ public class BoardComment extends BaseEntity {
     @Column(name = "is_anonymous", nullable = false)
     private boolean anonymous;
 
-    @Column(name = "like_count", nullable = false)
+    // LikeCounterService 가 like_count = like_count + ? 로만 갱신한다
+    @Column(name = "like_count", nullable = false, updatable = false)
     private int likeCount;
+
+    // 최상위 댓글 id. 최상위 댓글 자신은 null
+    @Column(name = "root_comment_id")
+    private Long rootCommentId;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
 }
@@ -32,4 +32,8 @@ public class CareerBoardPost extends BaseEntity {
 
     @Column(name = "is_anonymous", nullable = false)
     private boolean anonymous;
+
+    // PostViewCounter 가 view_count = view_count + ? 로만 갱신한다
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
 }
@@ -33,4 +33,8 @@ public class ChatMessage extends BaseEntity {
 
     @Column(name = "message", length = 300, nullable = false)
     private String message;
+
+    // message 를 마스킹할 때 사용한 욕설 사전 버전
+    @Column(name = "mask_version", length = 16)
+    private String maskVersion;
 }
@@ -57,7 +57,8 @@ public class InterviewReview extends BaseEntity {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @Column(name = "like_count", nullable = false)
+    // LikeCounterService 가 like_count = like_count + ? 로만 갱신한다
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     @Column(name = "is_active", nullable = false)
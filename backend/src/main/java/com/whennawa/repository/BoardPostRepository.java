@@ -2,6 +2,7 @@ package com.whennawa.repository;
 
 import com.whennawa.entity.BoardPost;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,7 +11,31 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface BoardPostRepository extends JpaRepository<BoardPost, Long> {
-    Page<BoardPost> findByCompanyCompanyIdOrderByCreatedAtDesc(Long companyId, Pageable pageable);
+    Page<BoardPost> findByCompanyCompanyIdOrderByCreatedAtDescPostIdDesc(Long companyId, Pageable pageable);
+
+    @Query("""
+        select p
+        from BoardPost p
+        where p.company.companyId = :companyId
+        order by p.createdAt desc, p.postId desc
+        """)
+    List<BoardPost> findFirstSlice(@Param("companyId") Long companyId, Pageable pageable);
+
+    // (company_id, created_at) 인덱스를 타는 keyset 페이지. created_at 이 같으면 post_id 로 구분
+    @Query("""
+        select p
+        from BoardPost p
+        where p.company.companyId = :companyId
+          and (p.createdAt < :createdAt
+               or (p.createdAt = :createdAt and p.postId < :postId))
+        order by p.createdAt desc, p.postId desc
+        """)
+    List<BoardPost> findSliceBefore(@Param("companyId") Long companyId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("postId") Long postId,
+                                    Pageable pageable);
+
+    long countByCompanyCompanyId(Long companyId);
 
     @Query("""
         select p
@@ -30,6 +55,39 @@ public interface BoardPostRepository extends JpaRepository<BoardPost, Long> {
         """)
     Page<BoardPost> searchByContent(@Param("companyId") Long companyId, @Param("q") String q, Pageable pageable);
 
+    // ngram FULLTEXT 인덱스 검색 (MySQL). phrase 는 BOOLEAN MODE 구문 검색어
+    @Query(value = """
+        select p.*
+        from board_post p
+        where p.company_id = :companyId
+          and match(p.title) against (:phrase in boolean mode)
+        order by match(p.title) against (:phrase in boolean mode) desc, p.created_at desc
+        """,
+        countQuery = """
+        select count(*)
+        from board_post p
+        where p.company_id = :companyId
+          and match(p.title) against (:phrase in boolean mode)
+        """,
+        nativeQuery = true)
+    Page<BoardPost> fullTextSearchByTitle(@Param("companyId") Long companyId, @Param("phrase") String phrase, Pageable pageable);
+
+    @Query(value = """
+        select p.*
+        from board_post p
+        where p.company_id = :companyId
+          and match(p.content) against (:phrase in boolean mode)
+        order by match(p.content) against (:phrase in boolean mode) desc, p.created_at desc
+        """,
+        countQuery = """
+        select count(*)
+        from board_post p
+        where p.company_id = :companyId
+          and match(p.content) against (:phrase in boolean mode)
+        """,
+        nativeQuery = true)
+    Page<BoardPost> fullTextSearchByContent(@Param("companyId") Long companyId, @Param("phrase") String phrase, Pageable pageable);
+
     Optional<BoardPost> findByPostIdAndCompanyCompanyId(Long postId, Long companyId);
 
     long deleteByCreatedAtBefore(LocalDateTime cutoff);
@@ -4,13 +4,39 @@ import com.whennawa.entity.CareerBoardCommentLike;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CareerBoardCommentLikeRepository extends JpaRepository<CareerBoardCommentLike, Long> {
-    boolean existsByCommentCommentIdAndUser_Id(Long commentId, Long userId);
+    long deleteByCommentCommentId(Long commentId);
 
-    long deleteByCommentCommentIdAndUser_Id(Long commentId, Long userId);
+    @Modifying
+    @Query("""
+        delete from CareerBoardCommentLike l
+        where l.comment.commentId in (
+            select c.commentId from CareerBoardComment c where c.rootCommentId = :rootCommentId
+        )
+        """)
+    int deleteByRootCommentId(@Param("rootCommentId") Long rootCommentId);
 
-    long deleteByCommentCommentId(Long commentId);
+    @Modifying
+    @Query("""
+        delete from CareerBoardCommentLike l
+        where l.comment.commentId in (
+            select c.commentId from CareerBoardComment c where c.parentComment.commentId = :parentCommentId
+        )
+        """)
+    int deleteByParentCommentId(@Param("parentCommentId") Long parentCommentId);
+
+    @Modifying
+    @Query("""
+        delete from CareerBoardCommentLike l
+        where l.comment.commentId in (
+            select c.commentId from CareerBoardComment c where c.post.postId = :postId
+        )
+        """)
+    int deleteByPostId(@Param("postId") Long postId);
 
     List<CareerBoardCommentLike> findByUser_IdAndCommentCommentIdIn(Long userId, Collection<Long> commentIds);
 }
@@ -7,15 +7,34 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CareerBoardCommentRepository extends JpaRepository<CareerBoardComment, Long> {
-    List<CareerBoardComment> findByPostPostId(Long postId);
-
     Page<CareerBoardComment> findByPostPostIdAndParentCommentIsNullOrderByCreatedAtDesc(Long postId, Pageable pageable);
 
-    List<CareerBoardComment> findByParentCommentCommentIdInOrderByCreatedAtAsc(Collection<Long> parentIds);
+    // 최상위 댓글 페이지에 딸린 답글 전체 (모든 깊이) 를 한 번에 읽는다
+    @Query("""
+        select c
+        from CareerBoardComment c
+        where c.rootCommentId in :rootCommentIds
+        order by c.createdAt asc, c.commentId asc
+        """)
+    List<CareerBoardComment> findRepliesByRootCommentIdIn(@Param("rootCommentIds") Collection<Long> rootCommentIds);
+
+    // parent_comment_id FK 때문에 깊은 댓글부터 지운다
+    @Modifying
+    @Query("delete from CareerBoardComment c where c.rootCommentId = :rootCommentId and c.depth = :depth")
+    int deleteByRootCommentIdAndDepth(@Param("rootCommentId") Long rootCommentId, @Param("depth") int depth);
+
+    @Modifying
+    @Query("delete from CareerBoardComment c where c.parentComment.commentId = :parentCommentId")
+    int deleteByParentCommentId(@Param("parentCommentId") Long parentCommentId);
 
-    List<CareerBoardComment> findByParentCommentCommentId(Long parentCommentId);
+    @Modifying
+    @Query("delete from CareerBoardComment c where c.post.postId = :postId and c.depth = :depth")
+    int deleteByPostIdAndDepth(@Param("postId") Long postId, @Param("depth") int depth);
 
     Optional<CareerBoardComment> findByCommentIdAndPostPostId(Long commentId, Long postId);
 }
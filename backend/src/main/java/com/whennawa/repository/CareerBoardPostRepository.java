@@ -2,6 +2,7 @@ package com.whennawa.repository;
 
 import com.whennawa.entity.CareerBoardPost;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,7 +11,25 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CareerBoardPostRepository extends JpaRepository<CareerBoardPost, Long> {
-    Page<CareerBoardPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    Page<CareerBoardPost> findAllByOrderByCreatedAtDescPostIdDesc(Pageable pageable);
+
+    @Query("""
+        select p
+        from CareerBoardPost p
+        order by p.createdAt desc, p.postId desc
+        """)
+    List<CareerBoardPost> findFirstSlice(Pageable pageable);
+
+    @Query("""
+        select p
+        from CareerBoardPost p
+        where p.createdAt < :createdAt
+           or (p.createdAt = :createdAt and p.postId < :postId)
+        order by p.createdAt desc, p.postId desc
+        """)
+    List<CareerBoardPost> findSliceBefore(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("postId") Long postId,
+                                          Pageable pageable);
 
     @Query("""
         select p
@@ -28,6 +47,35 @@ public interface CareerBoardPostRepository extends JpaRepository<CareerBoardPost
         """)
     Page<CareerBoardPost> searchByContent(@Param("q") String q, Pageable pageable);
 
+    // ngram FULLTEXT 인덱스 검색 (MySQL). phrase 는 BOOLEAN MODE 구문 검색어
+    @Query(value = """
+        select p.*
+        from career_board_post p
+        where match(p.title) against (:phrase in boolean mode)
+        order by match(p.title) against (:phrase in boolean mode) desc, p.created_at desc
+        """,
+        countQuery = """
+        select count(*)
+        from career_board_post p
+        where match(p.title) against (:phrase in boolean mode)
+        """,
+        nativeQuery = true)
+    Page<CareerBoardPost> fullTextSearchByTitle(@Param("phrase") String phrase, Pageable pageable);
+
+    @Query(value = """
+        select p.*
+        from career_board_post p
+        where match(p.content) against (:phrase in boolean mode)
+        order by match(p.content) against (:phrase in boolean mode) desc, p.created_at desc
+        """,
+        countQuery = """
+        select count(*)
+        from career_board_post p
+        where match(p.content) against (:phrase in boolean mode)
+        """,
+        nativeQuery = true)
+    Page<CareerBoardPost> fullTextSearchByContent(@Param("phrase") String phrase, Pageable pageable);
+
     Optional<CareerBoardPost> findByPostId(Long postId);
 
     long deleteByCreatedAtBefore(LocalDateTime cutoff);
@@ -3,10 +3,84 @@ package com.whennawa.repository;
 import com.whennawa.entity.ChatMessage;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByCompanyCompanyIdOrderByCreatedAtDesc(Long companyId, Pageable pageable);
+    interface ChatMessageRow {
+        Long getMessageId();
+        Long getCompanyId();
+        Long getSenderUserId();
+        String getSenderNickname();
+        String getMessage();
+        String getMaskVersion();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface ChatMessageCursor {
+        Long getMessageId();
+        Long getCompanyId();
+        LocalDateTime getCreatedAt();
+    }
+
+    @Query("""
+        select m.messageId as messageId,
+               m.company.companyId as companyId,
+               u.id as senderUserId,
+               m.senderNickname as senderNickname,
+               m.message as message,
+               m.maskVersion as maskVersion,
+               m.createdAt as createdAt
+        from ChatMessage m
+        left join m.member mem
+        left join mem.user u
+        where m.company.companyId = :companyId
+        order by m.createdAt desc, m.messageId desc
+        """)
+    List<ChatMessageRow> findRecentRows(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("""
+        select m.messageId as messageId,
+               m.company.companyId as companyId,
+               m.createdAt as createdAt
+        from ChatMessage m
+        where m.messageId = :messageId
+        """)
+    Optional<ChatMessageCursor> findCursor(@Param("messageId") Long messageId);
+
+    // (company_id, created_at) 인덱스를 타는 keyset 페이지. created_at 이 같으면 message_id 로 구분
+    @Query("""
+        select m.messageId as messageId,
+               m.company.companyId as companyId,
+               u.id as senderUserId,
+               m.senderNickname as senderNickname,
+               m.message as message,
+               m.maskVersion as maskVersion,
+               m.createdAt as createdAt
+        from ChatMessage m
+        left join m.member mem
+        left join mem.user u
+        where m.company.companyId = :companyId
+          and (m.createdAt < :createdAt
+               or (m.createdAt = :createdAt and m.messageId < :messageId))
+        order by m.createdAt desc, m.messageId desc
+        """)
+    List<ChatMessageRow> findRowsBefore(@Param("companyId") Long companyId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("messageId") Long messageId,
+                                        Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update ChatMessage m set m.message = :message, m.maskVersion = :maskVersion where m.messageId = :messageId")
+    int updateMaskedMessage(@Param("messageId") Long messageId,
+                            @Param("message") String message,
+                            @Param("maskVersion") String maskVersion);
+
     long deleteByCreatedAtBefore(LocalDateTime createdAt);
 }
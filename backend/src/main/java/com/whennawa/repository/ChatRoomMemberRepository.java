@@ -1,10 +1,17 @@
 package com.whennawa.repository;
 
 import com.whennawa.entity.ChatRoomMember;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember, Long> {
     Optional<ChatRoomMember> findByCompanyCompanyIdAndUserId(Long companyId, Long userId);
+
     boolean existsByCompanyCompanyIdAndNickname(Long companyId, String nickname);
+
+    @Query("select m.nickname from ChatRoomMember m where m.company.companyId = :companyId")
+    List<String> findNicknamesByCompanyId(@Param("companyId") Long companyId);
 }
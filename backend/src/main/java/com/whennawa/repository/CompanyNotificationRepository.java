@@ -3,18 +3,55 @@ package com.whennawa.repository;
 import com.whennawa.entity.CompanyNotification;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CompanyNotificationRepository extends JpaRepository<CompanyNotification, Long> {
+    interface UnreadCountRow {
+        Long getUserId();
+        Long getUnreadCount();
+    }
+
     Page<CompanyNotification> findByUser_Id(Long userId, Pageable pageable);
 
     Optional<CompanyNotification> findByNotificationIdAndUser_Id(Long notificationId, Long userId);
 
     List<CompanyNotification> findByCompanyCompanyIdAndEventDate(Long companyId, LocalDate eventDate);
 
+    List<CompanyNotification> findTop50ByUser_IdAndNotificationIdGreaterThanOrderByNotificationIdAsc(Long userId,
+                                                                                                  Long notificationId);
+
+    // upsert 된 알림은 id 가 그대로이고 updated_at 만 바뀌므로 (updated_at, notification_id) 로 넘긴다
+    @Query("""
+        select n
+        from CompanyNotification n
+        where n.user.id = :userId
+          and (n.updatedAt > :updatedAt
+               or (n.updatedAt = :updatedAt and n.notificationId > :notificationId))
+        order by n.updatedAt asc, n.notificationId asc
+        """)
+    List<CompanyNotification> findUpdatedSince(@Param("userId") Long userId,
+                                               @Param("updatedAt") LocalDateTime updatedAt,
+                                               @Param("notificationId") Long notificationId,
+                                               Pageable pageable);
+
+    long countByUser_IdAndIsReadFalse(Long userId);
+
+    @Query("""
+        select n.user.id as userId,
+               count(n) as unreadCount
+        from CompanyNotification n
+        where n.user.id in :userIds
+          and n.isRead = false
+        group by n.user.id
+        """)
+    List<UnreadCountRow> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     long deleteByUpdatedAtBefore(LocalDateTime updatedAt);
 }
@@ -0,0 +1,11 @@
+package com.whennawa.repository;
+
+import java.time.LocalDateTime;
+
+public interface HotCompanyActivityRow {
+    Long getCompanyId();
+    String getCompanyName();
+    String getStepName();
+    Integer getReportCount();
+    LocalDateTime getUpdatedAt();
+}
@@ -2,6 +2,7 @@ package com.whennawa.repository;
 
 import com.whennawa.entity.InterviewReview;
 import com.whennawa.entity.enums.RecruitmentMode;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -28,6 +29,83 @@ public interface InterviewReviewRepository extends JpaRepository<InterviewReview
         Pageable pageable
     );
 
+    // keyset 목록. mode / stepName 이 null 이면 조건에서 빠진다
+    @Query("""
+        select r
+        from InterviewReview r
+        where r.company.companyId = :companyId
+          and r.isActive = true
+          and (:mode is null or r.recruitmentMode = :mode)
+          and (:stepName is null or r.stepName = :stepName)
+        order by r.createdAt desc, r.reviewId desc
+        """)
+    List<InterviewReview> findLatestSlice(@Param("companyId") Long companyId,
+                                          @Param("mode") RecruitmentMode mode,
+                                          @Param("stepName") String stepName,
+                                          Pageable pageable);
+
+    @Query("""
+        select r
+        from InterviewReview r
+        where r.company.companyId = :companyId
+          and r.isActive = true
+          and (:mode is null or r.recruitmentMode = :mode)
+          and (:stepName is null or r.stepName = :stepName)
+          and (r.createdAt < :createdAt
+               or (r.createdAt = :createdAt and r.reviewId < :reviewId))
+        order by r.createdAt desc, r.reviewId desc
+        """)
+    List<InterviewReview> findLatestSliceBefore(@Param("companyId") Long companyId,
+                                                @Param("mode") RecruitmentMode mode,
+                                                @Param("stepName") String stepName,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("reviewId") Long reviewId,
+                                                Pageable pageable);
+
+    @Query("""
+        select r
+        from InterviewReview r
+        where r.company.companyId = :companyId
+          and r.isActive = true
+          and (:mode is null or r.recruitmentMode = :mode)
+          and (:stepName is null or r.stepName = :stepName)
+        order by r.likeCount desc, r.reviewId desc
+        """)
+    List<InterviewReview> findLikedSlice(@Param("companyId") Long companyId,
+                                         @Param("mode") RecruitmentMode mode,
+                                         @Param("stepName") String stepName,
+                                         Pageable pageable);
+
+    @Query("""
+        select r
+        from InterviewReview r
+        where r.company.companyId = :companyId
+          and r.isActive = true
+          and (:mode is null or r.recruitmentMode = :mode)
+          and (:stepName is null or r.stepName = :stepName)
+          and (r.likeCount < :likeCount
+               or (r.likeCount = :likeCount and r.reviewId < :reviewId))
+        order by r.likeCount desc, r.reviewId desc
+        """)
+    List<InterviewReview> findLikedSliceBefore(@Param("companyId") Long companyId,
+                                               @Param("mode") RecruitmentMode mode,
+                                               @Param("stepName") String stepName,
+                                               @Param("likeCount") Integer likeCount,
+                                               @Param("reviewId") Long reviewId,
+                                               Pageable pageable);
+
+    @Query("""
+        select count(r)
+        from InterviewReview r
+        where r.company.companyId = :companyId
+          and r.isActive = true
+          and (:mode is null or r.recruitmentMode = :mode)
+          and (:stepName is null or r.stepName = :stepName)
+        """)
+    long countActive(@Param("companyId") Long companyId,
+                     @Param("mode") RecruitmentMode mode,
+                     @Param("stepName") String stepName);
+
     Optional<InterviewReview> findByReviewIdAndIsActiveTrue(Long reviewId);
 
     Optional<InterviewReview> findTopByReportReportIdAndIsActiveTrueOrderByCreatedAtDesc(Long reportId);
@@ -5,6 +5,7 @@ import com.whennawa.entity.enums.LogSourceType;
 import com.whennawa.entity.enums.RecruitmentMode;
 import com.whennawa.entity.enums.RollingReportType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -36,13 +37,18 @@ public interface RecruitmentStepLogRepository extends JpaRepository<RecruitmentS
     List<RecruitmentStepLog> findRecentLogs(Pageable pageable);
 
     @Query("""
-        select log
+        select c.companyId as companyId,
+               log.companyName as companyName,
+               log.stepName as stepName,
+               log.reportCount as reportCount,
+               log.updatedAt as updatedAt
         from RecruitmentStepLog log
+        left join log.company c
         where log.stepName is not null
           and trim(log.stepName) <> ''
-        order by log.updatedAt desc, log.recruitmentLogId desc
+          and log.updatedAt >= :since
         """)
-    List<RecruitmentStepLog> findAllForHotCompanies();
+    List<HotCompanyActivityRow> findHotCompanyActivitySince(@Param("since") LocalDateTime since);
 
     Optional<RecruitmentStepLog> findFirstByCompanyNameAndRecruitmentModeAndStepNameAndResultTypeAndSourceTypeAndBaseDateAndReportedDate(
         String companyName,
@@ -6,6 +6,7 @@ import com.whennawa.entity.enums.LogSourceType;
 import com.whennawa.entity.enums.RecruitmentMode;
 import com.whennawa.entity.enums.RollingReportType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -38,13 +39,18 @@ public interface RollingStepLogRepository extends JpaRepository<RollingStepLog,
     List<RollingStepLog> findRecentLogs(Pageable pageable);
 
     @Query("""
-        select log
+        select c.companyId as companyId,
+               log.companyName as companyName,
+               log.stepName as stepName,
+               log.reportCount as reportCount,
+               log.updatedAt as updatedAt
         from RollingStepLog log
+        left join log.company c
         where log.stepName is not null
           and trim(log.stepName) <> ''
-        order by log.updatedAt desc, log.rollingLogId desc
+          and log.updatedAt >= :since
         """)
-    List<RollingStepLog> findAllForHotCompanies();
+    List<HotCompanyActivityRow> findHotCompanyActivitySince(@Param("since") LocalDateTime since);
 
     Optional<RollingStepLog> findFirstByCompanyNameAndRecruitmentModeAndStepNameAndRollingResultTypeAndSourceTypeAndBaseDateAndReportedDate(
         String companyName,
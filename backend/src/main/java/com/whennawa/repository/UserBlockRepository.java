@@ -4,6 +4,8 @@ import com.whennawa.entity.UserBlock;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
     List<UserBlock> findByBlocker_IdAndIsActiveTrueOrderByBlockIdDesc(Long blockerUserId);
@@ -11,4 +13,13 @@ public interface UserBlockRepository extends JpaRepository<UserBlock, Long> {
     Optional<UserBlock> findByBlocker_IdAndBlocked_Id(Long blockerUserId, Long blockedUserId);
 
     boolean existsByBlocker_IdAndBlocked_IdAndIsActiveTrue(Long blockerUserId, Long blockedUserId);
+
+    @Query("""
+        select b.blocked.id
+        from UserBlock b
+        where b.blocker.id = :blockerUserId
+          and b.isActive = true
+          and b.blocked.deletedAt is null
+        """)
+    List<Long> findActiveBlockedUserIds(@Param("blockerUserId") Long blockerUserId);
 }
@@ -1,10 +1,8 @@
 package com.whennawa.security;
 
-import com.whennawa.entity.User;
 import com.whennawa.exception.AuthTokenException;
-import com.whennawa.repository.UserRepository;
 import com.whennawa.service.AuthCookieService;
-import com.whennawa.service.RefreshTokenService;
+import com.whennawa.service.RefreshTokenCoalescer;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -27,17 +25,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String ACCESS_COOKIE = "access_token";
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
-    private final RefreshTokenService refreshTokenService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenCoalescer refreshTokenCoalescer;
     private final AuthCookieService authCookieService;
 
     public JwtAuthenticationFilter(JwtService jwtService,
-                                   UserRepository userRepository,
-                                   RefreshTokenService refreshTokenService,
+                                   UserPrincipalCache userPrincipalCache,
+                                   RefreshTokenCoalescer refreshTokenCoalescer,
                                    AuthCookieService authCookieService) {
         this.jwtService = jwtService;
-        this.userRepository = userRepository;
-        this.refreshTokenService = refreshTokenService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.refreshTokenCoalescer = refreshTokenCoalescer;
         this.authCookieService = authCookieService;
     }
 
@@ -73,8 +71,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
             Long userId = jwtService.getUserId(claims);
-            Optional<User> userOpt = userRepository.findByIdAndDeletedAtIsNull(userId);
-            if (userOpt.isEmpty()) {
+            Optional<UserPrincipal> principalOpt = userPrincipalCache.get(userId);
+            if (principalOpt.isEmpty()) {
                 if (tryAuthenticateWithRefresh(request, response)) {
                     filterChain.doFilter(request, response);
                     return;
@@ -82,7 +80,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 filterChain.doFilter(request, response);
                 return;
             }
-            authenticate(userOpt.get());
+            authenticate(principalOpt.get());
         } catch (JwtException | IllegalArgumentException ex) {
             // Invalid token; continue without authentication.
             log.warn("JWT Filter authentication fail");
@@ -124,11 +122,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return false;
         }
         try {
-            User user = refreshTokenService.validateTokenAndGetUser(refreshToken);
-            String accessToken = jwtService.createAccessToken(user);
-            authCookieService.setAccessCookie(response, accessToken);
-            authenticate(user);
-            log.debug("Refresh auth success: userId={}", user.getId());
+            RefreshTokenCoalescer.RefreshedAccess refreshed = refreshTokenCoalescer.authenticate(refreshToken);
+            authCookieService.setAccessCookie(response, refreshed.accessToken());
+            authenticate(UserPrincipalCache.toPrincipal(refreshed.user()));
+            log.debug("Refresh auth success: userId={}", refreshed.user().getId());
             return true;
         } catch (AuthTokenException ex) {
             log.warn("Refresh auth failed: {}", ex.getMessage());
@@ -145,14 +142,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void authenticate(User user) {
-        String role = user.getRole() == null ? "USER" : user.getRole().name();
-        UserPrincipal principal = new UserPrincipal(user.getId(), user.getEmail(), role);
+    private void authenticate(UserPrincipal principal) {
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(
                 principal,
                 null,
-                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
             );
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -3,22 +3,34 @@ package com.whennawa.security;
 import com.whennawa.config.AppProperties;
 import com.whennawa.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JwtService {
     private final Key signingKey;
+    private final JwtParser parser;
     private final long accessTtlMinutes;
     private final long refreshTtlDays;
+    private final int claimsCacheMaxEntries;
+    // 검증이 끝난 access token 의 claims. key 는 토큰 SHA-256, 만료 시각까지만 유효
+    private final Map<String, VerifiedClaims> verifiedClaims;
 
     public JwtService(AppProperties appProperties) {
         AppProperties.Jwt jwt = appProperties.getJwt();
@@ -32,8 +44,18 @@ public class JwtService {
             throw new IllegalStateException("app.jwt.secret must be base64", ex);
         }
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
         this.accessTtlMinutes = jwt.getAccessTtlMinutes();
         this.refreshTtlDays = jwt.getRefreshTtlDays();
+        this.claimsCacheMaxEntries = Math.max(0, jwt.getClaimsCacheMaxEntries());
+        this.verifiedClaims = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > claimsCacheMaxEntries;
+            }
+        };
     }
 
     public String createAccessToken(User user) {
@@ -65,11 +87,34 @@ public class JwtService {
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(signingKey)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        if (claimsCacheMaxEntries == 0 || token == null || token.isBlank()) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        // 해시는 락 밖에서 계산하고, 락 안에서는 조회/갱신만 한다
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        VerifiedClaims cached;
+        synchronized (verifiedClaims) {
+            cached = verifiedClaims.get(key);
+            if (cached != null && cached.expiresAtMillis() <= now) {
+                verifiedClaims.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            // 호출한 쪽이 고쳐도 캐시가 바뀌지 않도록 매번 복사본을 준다
+            return Jwts.claims(cached.claims());
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        // refresh token 은 요청마다 검증되지 않으므로 access token 만 보관
+        if (isAccessToken(claims) && claims.getExpiration() != null) {
+            VerifiedClaims verified = new VerifiedClaims(
+                Collections.unmodifiableMap(new LinkedHashMap<>(claims)), claims.getExpiration().getTime());
+            synchronized (verifiedClaims) {
+                verifiedClaims.put(key, verified);
+            }
+        }
+        return claims;
     }
 
     public boolean isAccessToken(Claims claims) {
@@ -95,5 +140,24 @@ public class JwtService {
     public long getRefreshTtlDays() {
         return refreshTtlDays;
     }
+
+    boolean isClaimsCached(String token) {
+        String key = hash(token);
+        synchronized (verifiedClaims) {
+            return verifiedClaims.containsKey(key);
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record VerifiedClaims(Map<String, Object> claims, long expiresAtMillis) {
+    }
 }
 
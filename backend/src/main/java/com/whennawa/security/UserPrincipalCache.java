@@ -0,0 +1,98 @@
+package com.whennawa.security;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.entity.User;
+import com.whennawa.repository.UserRepository;
+import com.whennawa.service.AccountWithdrawnEvent;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Active user principals by user id, kept for a short TTL so authenticated requests skip the user lookup.
+ * Missing (withdrawn) users are cached as well. Entries are dropped after withdrawal commits;
+ * role changes must call {@link #invalidate(Long)} and otherwise show up once the TTL passes.
+ */
+@Component
+public class UserPrincipalCache {
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+    private final ConcurrentMap<Long, CachedPrincipal> principalsByUser = new ConcurrentHashMap<>();
+
+    public UserPrincipalCache(UserRepository userRepository, AppProperties appProperties) {
+        this.userRepository = userRepository;
+        this.ttlMillis = Math.max(0L, appProperties.getAuth().getPrincipalCacheTtlSeconds()) * 1000L;
+        this.maxEntries = Math.max(1, appProperties.getAuth().getPrincipalCacheMaxEntries());
+    }
+
+    public static UserPrincipal toPrincipal(User user) {
+        String role = user.getRole() == null ? "USER" : user.getRole().name();
+        return new UserPrincipal(user.getId(), user.getEmail(), role);
+    }
+
+    public Optional<UserPrincipal> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principalsByUser.get(userId);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return Optional.ofNullable(cached.principal());
+            }
+            principalsByUser.remove(userId, cached);
+        }
+        return load(userId, now);
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        principalsByUser.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountWithdrawn(AccountWithdrawnEvent event) {
+        invalidate(event.userId());
+    }
+
+    private Optional<UserPrincipal> load(Long userId, long now) {
+        long generation = invalidations.get();
+        UserPrincipal principal = userRepository.findByIdAndDeletedAtIsNull(userId)
+            .map(UserPrincipalCache::toPrincipal)
+            .orElse(null);
+        if (ttlMillis > 0 && invalidations.get() == generation && hasRoom(now)) {
+            CachedPrincipal entry = new CachedPrincipal(principal, now + ttlMillis);
+            principalsByUser.put(userId, entry);
+            // 넣는 사이에 무효화됐으면 방금 넣은 항목을 되돌린다
+            if (invalidations.get() != generation) {
+                principalsByUser.remove(userId, entry);
+            }
+        }
+        return Optional.ofNullable(principal);
+    }
+
+    // 가득 차면 만료된 항목을 (1초에 한 번까지) 비우고, 그래도 자리가 없으면 캐시하지 않는다
+    private boolean hasRoom(long now) {
+        if (principalsByUser.size() < maxEntries) {
+            return true;
+        }
+        long last = lastSweepAt.get();
+        if (now - last >= 1000L && lastSweepAt.compareAndSet(last, now)) {
+            principalsByUser.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        }
+        return principalsByUser.size() < maxEntries;
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {
+    }
+}
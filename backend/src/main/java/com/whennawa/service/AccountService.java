@@ -4,6 +4,7 @@ import com.whennawa.entity.User;
 import com.whennawa.exception.NotFoundException;
 import com.whennawa.repository.UserRepository;
 import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,11 +12,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class AccountService {
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AccountService(UserRepository userRepository,
-                          RefreshTokenService refreshTokenService) {
+                          RefreshTokenService refreshTokenService,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.refreshTokenService = refreshTokenService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -25,6 +29,7 @@ public class AccountService {
         refreshTokenService.deleteAllTokensForUser(userId);
         user.markDeleted(LocalDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new AccountWithdrawnEvent(userId));
     }
 }
 
@@ -0,0 +1,7 @@
+package com.whennawa.service;
+
+/**
+ * Published when a user withdraws. Listeners drop anything cached for the user.
+ */
+public record AccountWithdrawnEvent(Long userId) {
+}
@@ -0,0 +1,42 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Totals for cursor listings, recounted at most once per TTL per key.
+ * Values may lag behind recent writes; they are only meant for "about N posts" style UI.
+ */
+@Component
+public class ApproximateCountCache {
+    private final long ttlMillis;
+    private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public ApproximateCountCache(AppProperties appProperties) {
+        this.ttlMillis = Math.max(0L, appProperties.getBoard().getApproximateTotalTtlSeconds()) * 1000L;
+    }
+
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.count();
+        }
+        long count = counter.getAsLong();
+        counts.put(key, new CachedCount(count, now + ttlMillis));
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.approximate-total-evict-check-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counts.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+    }
+
+    private record CachedCount(long count, long expiresAtMillis) {
+    }
+}
@@ -8,8 +8,8 @@ import com.whennawa.dto.board.BoardPageResponse;
 import com.whennawa.dto.board.BoardPostCreateRequest;
 import com.whennawa.dto.board.BoardPostResponse;
 import com.whennawa.dto.board.BoardPostUpdateRequest;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.entity.BoardComment;
-import com.whennawa.entity.BoardCommentLike;
 import com.whennawa.entity.BoardPost;
 import com.whennawa.entity.Company;
 import com.whennawa.entity.User;
@@ -17,6 +17,8 @@ import com.whennawa.repository.BoardCommentLikeRepository;
 import com.whennawa.repository.BoardCommentRepository;
 import com.whennawa.repository.BoardPostRepository;
 import com.whennawa.repository.UserRepository;
+import com.whennawa.util.LongSet;
+import com.whennawa.util.PageCursor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -27,7 +29,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
@@ -41,6 +42,8 @@ public class BoardService {
     private static final int DEFAULT_POST_PAGE_SIZE = 20;
     private static final int MAX_POST_PAGE_SIZE = 50;
     private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    // 최상위 댓글이 0, 답글의 답글이 2
+    private static final int MAX_COMMENT_DEPTH = 2;
     private static final int MAX_COMMENT_PAGE_SIZE = 50;
 
     private final CompanySearchService companySearchService;
@@ -50,15 +53,19 @@ public class BoardService {
     private final UserRepository userRepository;
     private final ProfanityMasker profanityMasker;
     private final UserBlockService userBlockService;
+    private final PostSearchPolicy postSearchPolicy;
+    private final ApproximateCountCache approximateCountCache;
+    private final LikeCounterService likeCounterService;
+    private final PostViewCounter postViewCounter;
 
     @Transactional(readOnly = true)
     public BoardPageResponse<BoardPostResponse> listPosts(String companyName, Integer page, Integer size, Long currentUserId) {
         Company company = resolveCompany(companyName);
         int boundedPage = Math.max(0, page == null ? 0 : page);
         int boundedSize = clampPageSize(size, DEFAULT_POST_PAGE_SIZE, MAX_POST_PAGE_SIZE);
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
-        Page<BoardPost> result = boardPostRepository.findByCompanyCompanyIdOrderByCreatedAtDesc(
+        Page<BoardPost> result = boardPostRepository.findByCompanyCompanyIdOrderByCreatedAtDescPostIdDesc(
             company.getCompanyId(),
             PageRequest.of(boundedPage, boundedSize)
         );
@@ -79,15 +86,54 @@ public class BoardService {
     }
 
     @Transactional(readOnly = true)
-    public BoardPostResponse getPost(String companyName, Long postId, Long currentUserId) {
+    public CursorPageResponse<BoardPostResponse> listPostsByCursor(String companyName,
+                                                                   String cursor,
+                                                                   Integer size,
+                                                                   Long currentUserId) {
+        Company company = resolveCompany(companyName);
+        Long companyId = company.getCompanyId();
+        int boundedSize = clampPageSize(size, DEFAULT_POST_PAGE_SIZE, MAX_POST_PAGE_SIZE);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+
+        PageRequest pageable = PageRequest.of(0, boundedSize + 1);
+        List<BoardPost> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = boardPostRepository.findFirstSlice(companyId, pageable);
+        } else {
+            PageCursor after = PageCursor.decodeTimed(cursor);
+            rows = boardPostRepository.findSliceBefore(companyId, after.createdAt(), after.id(), pageable);
+        }
+        boolean hasNext = rows.size() > boundedSize;
+        List<BoardPost> slice = hasNext ? rows.subList(0, boundedSize) : rows;
+
+        List<BoardPostResponse> items = slice.stream()
+            .filter(post -> !isBlockedAuthor(post == null ? null : post.getUser(), blockedUserIds))
+            .map(this::toPostResponse)
+            .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            BoardPost last = slice.get(slice.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getPostId()).encode();
+        }
+        long approximateTotal = approximateCountCache.get(
+            "board:" + companyId,
+            () -> boardPostRepository.countByCompanyCompanyId(companyId)
+        );
+        return new CursorPageResponse<>(items, nextCursor, hasNext, approximateTotal);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardPostResponse getPost(String companyName, Long postId, Long currentUserId, String clientAddress) {
         Company company = resolveCompany(companyName);
         BoardPost post = boardPostRepository.findByPostIdAndCompanyCompanyId(postId, company.getCompanyId())
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
         if (isBlockedAuthor(post.getUser(), blockedUserIds)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found");
         }
-        return toPostResponse(post);
+        long viewCount = postViewCounter.recordView(
+            PostViewCounter.ViewTarget.BOARD_POST, post.getPostId(), post.getViewCount(), currentUserId, clientAddress);
+        return toPostResponse(post, viewCount);
     }
 
     @Transactional
@@ -114,7 +160,7 @@ public class BoardService {
                                                             Integer size,
                                                             Long currentUserId) {
         Company company = resolveCompany(companyName);
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
         String normalizedQuery = normalizeText(query, "Query is required", 100);
         int boundedPage = Math.max(0, page == null ? 0 : page);
@@ -122,10 +168,19 @@ public class BoardService {
         PageRequest pageable = PageRequest.of(boundedPage, boundedSize);
         String target = field == null ? "title" : field.trim().toLowerCase();
 
-        Page<BoardPost> result = switch (target) {
-            case "content" -> boardPostRepository.searchByContent(company.getCompanyId(), normalizedQuery, pageable);
-            default -> boardPostRepository.searchByTitle(company.getCompanyId(), normalizedQuery, pageable);
-        };
+        Page<BoardPost> result;
+        if (postSearchPolicy.useFullText(normalizedQuery)) {
+            String phrase = PostSearchPolicy.phrase(normalizedQuery);
+            result = switch (target) {
+                case "content" -> boardPostRepository.fullTextSearchByContent(company.getCompanyId(), phrase, pageable);
+                default -> boardPostRepository.fullTextSearchByTitle(company.getCompanyId(), phrase, pageable);
+            };
+        } else {
+            result = switch (target) {
+                case "content" -> boardPostRepository.searchByContent(company.getCompanyId(), normalizedQuery, pageable);
+                default -> boardPostRepository.searchByTitle(company.getCompanyId(), normalizedQuery, pageable);
+            };
+        }
 
         List<BoardPostResponse> items = result.getContent().stream()
             .filter(post -> !isBlockedAuthor(post == null ? null : post.getUser(), blockedUserIds))
@@ -165,11 +220,10 @@ public class BoardService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
         ensureCanModeratePost(post, userId, isAdmin);
 
-        List<BoardComment> allComments = boardCommentRepository.findByPostPostId(postId);
-        for (BoardComment comment : allComments) {
-            boardCommentLikeRepository.deleteByCommentCommentId(comment.getCommentId());
+        boardCommentLikeRepository.deleteByPostId(postId);
+        for (int depth = MAX_COMMENT_DEPTH; depth >= 0; depth--) {
+            boardCommentRepository.deleteByPostIdAndDepth(postId, depth);
         }
-        boardCommentRepository.deleteAll(allComments);
         boardPostRepository.delete(post);
     }
 
@@ -201,19 +255,10 @@ public class BoardService {
         }
 
         List<Long> parentIds = parents.stream().map(BoardComment::getCommentId).toList();
-        List<BoardComment> repliesLv1 = boardCommentRepository.findByParentCommentCommentIdInOrderByCreatedAtAsc(parentIds);
-        List<Long> replyLv1Ids = repliesLv1.stream().map(BoardComment::getCommentId).toList();
-        List<BoardComment> repliesLv2 = replyLv1Ids.isEmpty()
-            ? Collections.emptyList()
-            : boardCommentRepository.findByParentCommentCommentIdInOrderByCreatedAtAsc(replyLv1Ids);
+        List<BoardComment> replies = boardCommentRepository.findRepliesByRootCommentIdIn(parentIds);
 
         Map<Long, List<BoardComment>> repliesByParent = new HashMap<>();
-        for (BoardComment reply : repliesLv1) {
-            Long parentId = reply.getParentComment() == null ? null : reply.getParentComment().getCommentId();
-            if (parentId == null) continue;
-            repliesByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(reply);
-        }
-        for (BoardComment reply : repliesLv2) {
+        for (BoardComment reply : replies) {
             Long parentId = reply.getParentComment() == null ? null : reply.getParentComment().getCommentId();
             if (parentId == null) continue;
             repliesByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(reply);
@@ -221,9 +266,9 @@ public class BoardService {
 
         Set<Long> likedIds = resolveLikedCommentIds(
             currentUserId,
-            mergeCommentIds(parents, repliesLv1, repliesLv2)
+            mergeCommentIds(parents, replies)
         );
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
         List<BoardCommentResponse> items = parents.stream()
             .filter(parent -> !isBlockedAuthor(parent == null ? null : parent.getUser(), blockedUserIds))
@@ -273,8 +318,7 @@ public class BoardService {
         if (request != null && request.getParentCommentId() != null) {
             parent = boardCommentRepository.findByCommentIdAndPostPostId(request.getParentCommentId(), post.getPostId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parent comment not found"));
-            int parentDepth = resolveCommentDepth(parent);
-            if (parentDepth >= 2) {
+            if (parent.getDepth() >= MAX_COMMENT_DEPTH) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Maximum reply depth is 3 levels");
             }
         }
@@ -284,6 +328,10 @@ public class BoardService {
         BoardComment comment = new BoardComment();
         comment.setPost(post);
         comment.setParentComment(parent);
+        if (parent != null) {
+            comment.setRootCommentId(parent.getRootCommentId() == null ? parent.getCommentId() : parent.getRootCommentId());
+            comment.setDepth(parent.getDepth() + 1);
+        }
         comment.setUser(user);
         comment.setContent(profanityMasker.mask(content));
         comment.setAnonymous(Boolean.TRUE.equals(request == null ? null : request.getAnonymous()));
@@ -317,14 +365,18 @@ public class BoardService {
         BoardComment comment = resolveComment(companyName, postId, commentId);
         ensureCanModerateComment(comment, userId, isAdmin);
 
-        List<BoardComment> descendants = collectDescendants(comment.getCommentId());
-        for (BoardComment descendant : descendants) {
-            boardCommentLikeRepository.deleteByCommentCommentId(descendant.getCommentId());
+        if (comment.getDepth() == 0) {
+            boardCommentLikeRepository.deleteByRootCommentId(commentId);
+            for (int depth = MAX_COMMENT_DEPTH; depth >= 1; depth--) {
+                boardCommentRepository.deleteByRootCommentIdAndDepth(commentId, depth);
+            }
+        } else if (comment.getDepth() < MAX_COMMENT_DEPTH) {
+            // 중간 깊이 댓글의 하위는 직계 답글뿐이다
+            boardCommentLikeRepository.deleteByParentCommentId(commentId);
+            boardCommentRepository.deleteByParentCommentId(commentId);
         }
-        Collections.reverse(descendants);
-        boardCommentRepository.deleteAll(descendants);
 
-        boardCommentLikeRepository.deleteByCommentCommentId(comment.getCommentId());
+        boardCommentLikeRepository.deleteByCommentCommentId(commentId);
         boardCommentRepository.delete(comment);
     }
 
@@ -336,17 +388,7 @@ public class BoardService {
         User user = resolveUser(userId);
         BoardComment comment = resolveComment(companyName, postId, commentId);
 
-        if (!boardCommentLikeRepository.existsByCommentCommentIdAndUser_Id(comment.getCommentId(), user.getId())) {
-            BoardCommentLike like = new BoardCommentLike();
-            like.setComment(comment);
-            like.setUser(user);
-            try {
-                boardCommentLikeRepository.save(like);
-                comment.setLikeCount(comment.getLikeCount() + 1);
-            } catch (DataIntegrityViolationException ignored) {
-                // idempotent fallback for concurrent click
-            }
-        }
+        likeCounterService.like(LikeCounterService.LikeTarget.BOARD_COMMENT, comment.getCommentId(), user.getId());
 
         return toCommentResponse(comment, true, Collections.emptyList());
     }
@@ -359,10 +401,7 @@ public class BoardService {
         resolveUser(userId);
         BoardComment comment = resolveComment(companyName, postId, commentId);
 
-        long deleted = boardCommentLikeRepository.deleteByCommentCommentIdAndUser_Id(comment.getCommentId(), userId);
-        if (deleted > 0 && comment.getLikeCount() > 0) {
-            comment.setLikeCount(comment.getLikeCount() - 1);
-        }
+        likeCounterService.unlike(LikeCounterService.LikeTarget.BOARD_COMMENT, comment.getCommentId(), userId);
 
         return toCommentResponse(comment, false, Collections.emptyList());
     }
@@ -451,40 +490,14 @@ public class BoardService {
             .collect(Collectors.toSet());
     }
 
-    private List<Long> mergeCommentIds(List<BoardComment> parents, List<BoardComment> repliesLv1, List<BoardComment> repliesLv2) {
-        List<Long> ids = new ArrayList<>(parents.size() + repliesLv1.size() + repliesLv2.size());
+    private List<Long> mergeCommentIds(List<BoardComment> parents, List<BoardComment> replies) {
+        List<Long> ids = new ArrayList<>(parents.size() + replies.size());
         for (BoardComment comment : parents) ids.add(comment.getCommentId());
-        for (BoardComment comment : repliesLv1) ids.add(comment.getCommentId());
-        for (BoardComment comment : repliesLv2) ids.add(comment.getCommentId());
+        for (BoardComment comment : replies) ids.add(comment.getCommentId());
         return ids;
     }
 
-    private int resolveCommentDepth(BoardComment comment) {
-        int depth = 0;
-        BoardComment cursor = comment;
-        while (cursor.getParentComment() != null) {
-            depth += 1;
-            cursor = cursor.getParentComment();
-            if (depth > 8) {
-                break;
-            }
-        }
-        return depth;
-    }
-
-    private List<BoardComment> collectDescendants(Long rootCommentId) {
-        List<BoardComment> descendants = new ArrayList<>();
-        List<Long> frontier = Collections.singletonList(rootCommentId);
-        while (!frontier.isEmpty()) {
-            List<BoardComment> children = boardCommentRepository.findByParentCommentCommentIdInOrderByCreatedAtAsc(frontier);
-            if (children.isEmpty()) break;
-            descendants.addAll(children);
-            frontier = children.stream().map(BoardComment::getCommentId).toList();
-        }
-        return descendants;
-    }
-
-    private boolean isBlockedAuthor(User author, Set<Long> blockedUserIds) {
+    private boolean isBlockedAuthor(User author, LongSet blockedUserIds) {
         if (author == null || author.getId() == null || blockedUserIds == null || blockedUserIds.isEmpty()) {
             return false;
         }
@@ -507,6 +520,11 @@ public class BoardService {
     }
 
     private BoardPostResponse toPostResponse(BoardPost post) {
+        return toPostResponse(post,
+            postViewCounter.currentCount(PostViewCounter.ViewTarget.BOARD_POST, post.getPostId(), post.getViewCount()));
+    }
+
+    private BoardPostResponse toPostResponse(BoardPost post, long viewCount) {
         return new BoardPostResponse(
             post.getPostId(),
             post.getCompany().getCompanyId(),
@@ -515,7 +533,8 @@ public class BoardService {
             post.getContent(),
             post.getUser() == null ? null : post.getUser().getId(),
             post.isAnonymous() ? resolveAnonymousAlias(post.getPostId()) : resolveAuthorName(post.getUser()),
-            post.getCreatedAt()
+            post.getCreatedAt(),
+            viewCount
         );
     }
 
@@ -533,7 +552,7 @@ public class BoardService {
             comment.isAnonymous() ? resolveAnonymousAlias(comment.getCommentId()) : resolveAuthorName(comment.getUser()),
             comment.getCreatedAt(),
             comment.getUpdatedAt(),
-            Math.max(0, comment.getLikeCount()),
+            likeCounterService.currentCount(LikeCounterService.LikeTarget.BOARD_COMMENT, comment.getCommentId(), comment.getLikeCount()),
             likedByMe,
             safeReplies.size(),
             safeReplies
@@ -8,14 +8,16 @@ import com.whennawa.dto.board.BoardPageResponse;
 import com.whennawa.dto.board.BoardPostCreateRequest;
 import com.whennawa.dto.board.BoardPostResponse;
 import com.whennawa.dto.board.BoardPostUpdateRequest;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.entity.CareerBoardComment;
-import com.whennawa.entity.CareerBoardCommentLike;
 import com.whennawa.entity.CareerBoardPost;
 import com.whennawa.entity.User;
 import com.whennawa.repository.CareerBoardCommentLikeRepository;
 import com.whennawa.repository.CareerBoardCommentRepository;
 import com.whennawa.repository.CareerBoardPostRepository;
 import com.whennawa.repository.UserRepository;
+import com.whennawa.util.LongSet;
+import com.whennawa.util.PageCursor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,7 +27,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
@@ -39,6 +40,8 @@ public class CareerBoardService {
     private static final int DEFAULT_POST_PAGE_SIZE = 20;
     private static final int MAX_POST_PAGE_SIZE = 50;
     private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    // 최상위 댓글이 0, 답글의 답글이 2
+    private static final int MAX_COMMENT_DEPTH = 2;
     private static final int MAX_COMMENT_PAGE_SIZE = 50;
 
     private final CareerBoardPostRepository careerBoardPostRepository;
@@ -47,14 +50,18 @@ public class CareerBoardService {
     private final UserRepository userRepository;
     private final ProfanityMasker profanityMasker;
     private final UserBlockService userBlockService;
+    private final PostSearchPolicy postSearchPolicy;
+    private final ApproximateCountCache approximateCountCache;
+    private final LikeCounterService likeCounterService;
+    private final PostViewCounter postViewCounter;
 
     @Transactional(readOnly = true)
     public BoardPageResponse<BoardPostResponse> listPosts(Integer page, Integer size, Long currentUserId) {
         int boundedPage = Math.max(0, page == null ? 0 : page);
         int boundedSize = clampPageSize(size, DEFAULT_POST_PAGE_SIZE, MAX_POST_PAGE_SIZE);
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
-        Page<CareerBoardPost> result = careerBoardPostRepository.findAllByOrderByCreatedAtDesc(
+        Page<CareerBoardPost> result = careerBoardPostRepository.findAllByOrderByCreatedAtDescPostIdDesc(
             PageRequest.of(boundedPage, boundedSize)
         );
 
@@ -74,14 +81,45 @@ public class CareerBoardService {
     }
 
     @Transactional(readOnly = true)
-    public BoardPostResponse getPost(Long postId, Long currentUserId) {
+    public CursorPageResponse<BoardPostResponse> listPostsByCursor(String cursor, Integer size, Long currentUserId) {
+        int boundedSize = clampPageSize(size, DEFAULT_POST_PAGE_SIZE, MAX_POST_PAGE_SIZE);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+
+        PageRequest pageable = PageRequest.of(0, boundedSize + 1);
+        List<CareerBoardPost> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = careerBoardPostRepository.findFirstSlice(pageable);
+        } else {
+            PageCursor after = PageCursor.decodeTimed(cursor);
+            rows = careerBoardPostRepository.findSliceBefore(after.createdAt(), after.id(), pageable);
+        }
+        boolean hasNext = rows.size() > boundedSize;
+        List<CareerBoardPost> slice = hasNext ? rows.subList(0, boundedSize) : rows;
+
+        List<BoardPostResponse> items = slice.stream()
+            .filter(post -> !isBlockedAuthor(post == null ? null : post.getUser(), blockedUserIds))
+            .map(this::toPostResponse)
+            .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            CareerBoardPost last = slice.get(slice.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getPostId()).encode();
+        }
+        long approximateTotal = approximateCountCache.get("career-board", careerBoardPostRepository::count);
+        return new CursorPageResponse<>(items, nextCursor, hasNext, approximateTotal);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardPostResponse getPost(Long postId, Long currentUserId, String clientAddress) {
         CareerBoardPost post = careerBoardPostRepository.findByPostId(postId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
         if (isBlockedAuthor(post.getUser(), blockedUserIds)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found");
         }
-        return toPostResponse(post);
+        long viewCount = postViewCounter.recordView(
+            PostViewCounter.ViewTarget.CAREER_BOARD_POST, post.getPostId(), post.getViewCount(), currentUserId, clientAddress);
+        return toPostResponse(post, viewCount);
     }
 
     @Transactional
@@ -104,7 +142,7 @@ public class CareerBoardService {
                                                             Integer page,
                                                             Integer size,
                                                             Long currentUserId) {
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
         String normalizedQuery = normalizeText(query, "Query is required", 100);
         int boundedPage = Math.max(0, page == null ? 0 : page);
@@ -112,10 +150,19 @@ public class CareerBoardService {
         PageRequest pageable = PageRequest.of(boundedPage, boundedSize);
         String target = field == null ? "title" : field.trim().toLowerCase();
 
-        Page<CareerBoardPost> result = switch (target) {
-            case "content" -> careerBoardPostRepository.searchByContent(normalizedQuery, pageable);
-            default -> careerBoardPostRepository.searchByTitle(normalizedQuery, pageable);
-        };
+        Page<CareerBoardPost> result;
+        if (postSearchPolicy.useFullText(normalizedQuery)) {
+            String phrase = PostSearchPolicy.phrase(normalizedQuery);
+            result = switch (target) {
+                case "content" -> careerBoardPostRepository.fullTextSearchByContent(phrase, pageable);
+                default -> careerBoardPostRepository.fullTextSearchByTitle(phrase, pageable);
+            };
+        } else {
+            result = switch (target) {
+                case "content" -> careerBoardPostRepository.searchByContent(normalizedQuery, pageable);
+                default -> careerBoardPostRepository.searchByTitle(normalizedQuery, pageable);
+            };
+        }
 
         List<BoardPostResponse> items = result.getContent().stream()
             .filter(post -> !isBlockedAuthor(post == null ? null : post.getUser(), blockedUserIds))
@@ -152,11 +199,10 @@ public class CareerBoardService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Post not found"));
         ensureCanModeratePost(post, userId, isAdmin);
 
-        List<CareerBoardComment> allComments = careerBoardCommentRepository.findByPostPostId(postId);
-        for (CareerBoardComment comment : allComments) {
-            careerBoardCommentLikeRepository.deleteByCommentCommentId(comment.getCommentId());
+        careerBoardCommentLikeRepository.deleteByPostId(postId);
+        for (int depth = MAX_COMMENT_DEPTH; depth >= 0; depth--) {
+            careerBoardCommentRepository.deleteByPostIdAndDepth(postId, depth);
         }
-        careerBoardCommentRepository.deleteAll(allComments);
         careerBoardPostRepository.delete(post);
     }
 
@@ -187,19 +233,10 @@ public class CareerBoardService {
         }
 
         List<Long> parentIds = parents.stream().map(CareerBoardComment::getCommentId).toList();
-        List<CareerBoardComment> repliesLv1 = careerBoardCommentRepository.findByParentCommentCommentIdInOrderByCreatedAtAsc(parentIds);
-        List<Long> replyLv1Ids = repliesLv1.stream().map(CareerBoardComment::getCommentId).toList();
-        List<CareerBoardComment> repliesLv2 = replyLv1Ids.isEmpty()
-            ? Collections.emptyList()
-            : careerBoardCommentRepository.findByParentCommentCommentIdInOrderByCreatedAtAsc(replyLv1Ids);
+        List<CareerBoardComment> replies = careerBoardCommentRepository.findRepliesByRootCommentIdIn(parentIds);
 
         Map<Long, List<CareerBoardComment>> repliesByParent = new HashMap<>();
-        for (CareerBoardComment reply : repliesLv1) {
-            Long parentId = reply.getParentComment() == null ? null : reply.getParentComment().getCommentId();
-            if (parentId == null) continue;
-            repliesByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(reply);
-        }
-        for (CareerBoardComment reply : repliesLv2) {
+        for (CareerBoardComment reply : replies) {
             Long parentId = reply.getParentComment() == null ? null : reply.getParentComment().getCommentId();
             if (parentId == null) continue;
             repliesByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(reply);
@@ -207,9 +244,9 @@ public class CareerBoardService {
 
         Set<Long> likedIds = resolveLikedCommentIds(
             currentUserId,
-            mergeCommentIds(parents, repliesLv1, repliesLv2)
+            mergeCommentIds(parents, replies)
         );
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
 
         List<BoardCommentResponse> items = parents.stream()
             .filter(parent -> !isBlockedAuthor(parent == null ? null : parent.getUser(), blockedUserIds))
@@ -258,8 +295,7 @@ public class CareerBoardService {
         if (request != null && request.getParentCommentId() != null) {
             parent = careerBoardCommentRepository.findByCommentIdAndPostPostId(request.getParentCommentId(), post.getPostId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parent comment not found"));
-            int parentDepth = resolveCommentDepth(parent);
-            if (parentDepth >= 2) {
+            if (parent.getDepth() >= MAX_COMMENT_DEPTH) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Maximum reply depth is 3 levels");
             }
         }
@@ -269,6 +305,10 @@ public class CareerBoardService {
         CareerBoardComment comment = new CareerBoardComment();
         comment.setPost(post);
         comment.setParentComment(parent);
+        if (parent != null) {
+            comment.setRootCommentId(parent.getRootCommentId() == null ? parent.getCommentId() : parent.getRootCommentId());
+            comment.setDepth(parent.getDepth() + 1);
+        }
         comment.setUser(user);
         comment.setContent(profanityMasker.mask(content));
         comment.setAnonymous(Boolean.TRUE.equals(request == null ? null : request.getAnonymous()));
@@ -300,14 +340,18 @@ public class CareerBoardService {
         CareerBoardComment comment = resolveComment(postId, commentId);
         ensureCanModerateComment(comment, userId, isAdmin);
 
-        List<CareerBoardComment> descendants = collectDescendants(comment.getCommentId());
-        for (CareerBoardComment descendant : descendants) {
-            careerBoardCommentLikeRepository.deleteByCommentCommentId(descendant.getCommentId());
+        if (comment.getDepth() == 0) {
+            careerBoardCommentLikeRepository.deleteByRootCommentId(commentId);
+            for (int depth = MAX_COMMENT_DEPTH; depth >= 1; depth--) {
+                careerBoardCommentRepository.deleteByRootCommentIdAndDepth(commentId, depth);
+            }
+        } else if (comment.getDepth() < MAX_COMMENT_DEPTH) {
+            // 중간 깊이 댓글의 하위는 직계 답글뿐이다
+            careerBoardCommentLikeRepository.deleteByParentCommentId(commentId);
+            careerBoardCommentRepository.deleteByParentCommentId(commentId);
         }
-        Collections.reverse(descendants);
-        careerBoardCommentRepository.deleteAll(descendants);
 
-        careerBoardCommentLikeRepository.deleteByCommentCommentId(comment.getCommentId());
+        careerBoardCommentLikeRepository.deleteByCommentCommentId(commentId);
         careerBoardCommentRepository.delete(comment);
     }
 
@@ -318,17 +362,7 @@ public class CareerBoardService {
         User user = resolveUser(userId);
         CareerBoardComment comment = resolveComment(postId, commentId);
 
-        if (!careerBoardCommentLikeRepository.existsByCommentCommentIdAndUser_Id(comment.getCommentId(), user.getId())) {
-            CareerBoardCommentLike like = new CareerBoardCommentLike();
-            like.setComment(comment);
-            like.setUser(user);
-            try {
-                careerBoardCommentLikeRepository.save(like);
-                comment.setLikeCount(Math.max(0, comment.getLikeCount() == null ? 0 : comment.getLikeCount()) + 1);
-            } catch (DataIntegrityViolationException ignored) {
-                // idempotent when request races
-            }
-        }
+        likeCounterService.like(LikeCounterService.LikeTarget.CAREER_BOARD_COMMENT, comment.getCommentId(), user.getId());
 
         return toCommentResponse(comment, true, Collections.emptyList());
     }
@@ -340,11 +374,7 @@ public class CareerBoardService {
         resolveUser(userId);
         CareerBoardComment comment = resolveComment(postId, commentId);
 
-        long removed = careerBoardCommentLikeRepository.deleteByCommentCommentIdAndUser_Id(comment.getCommentId(), userId);
-        if (removed > 0) {
-            int current = Math.max(0, comment.getLikeCount() == null ? 0 : comment.getLikeCount());
-            comment.setLikeCount(Math.max(0, current - 1));
-        }
+        likeCounterService.unlike(LikeCounterService.LikeTarget.CAREER_BOARD_COMMENT, comment.getCommentId(), userId);
 
         return toCommentResponse(comment, false, Collections.emptyList());
     }
@@ -385,7 +415,7 @@ public class CareerBoardService {
         return trimmed;
     }
 
-    private boolean isBlockedAuthor(User author, Set<Long> blockedUserIds) {
+    private boolean isBlockedAuthor(User author, LongSet blockedUserIds) {
         if (author == null || blockedUserIds == null || blockedUserIds.isEmpty()) return false;
         return blockedUserIds.contains(author.getId());
     }
@@ -413,6 +443,11 @@ public class CareerBoardService {
     }
 
     private BoardPostResponse toPostResponse(CareerBoardPost post) {
+        return toPostResponse(post,
+            postViewCounter.currentCount(PostViewCounter.ViewTarget.CAREER_BOARD_POST, post.getPostId(), post.getViewCount()));
+    }
+
+    private BoardPostResponse toPostResponse(CareerBoardPost post, long viewCount) {
         Long authorId = post.getUser() == null ? null : post.getUser().getId();
         String authorName = post.isAnonymous()
             ? "익명"
@@ -426,7 +461,8 @@ public class CareerBoardService {
             post.getContent(),
             authorId,
             authorName,
-            post.getCreatedAt()
+            post.getCreatedAt(),
+            viewCount
         );
     }
 
@@ -436,7 +472,8 @@ public class CareerBoardService {
             ? "익명"
             : (comment.getUser() == null ? "알 수 없음" : displayName(comment.getUser()));
 
-        int likeCount = Math.max(0, comment.getLikeCount() == null ? 0 : comment.getLikeCount());
+        int likeCount = likeCounterService.currentCount(
+            LikeCounterService.LikeTarget.CAREER_BOARD_COMMENT, comment.getCommentId(), comment.getLikeCount());
         Long parentId = comment.getParentComment() == null ? null : comment.getParentComment().getCommentId();
 
         return new BoardCommentResponse(
@@ -471,42 +508,14 @@ public class CareerBoardService {
     }
 
     private List<Long> mergeCommentIds(List<CareerBoardComment> parents,
-                                       List<CareerBoardComment> repliesLv1,
-                                       List<CareerBoardComment> repliesLv2) {
+                                       List<CareerBoardComment> replies) {
         List<Long> ids = new ArrayList<>();
         if (parents != null) {
             for (CareerBoardComment c : parents) if (c != null && c.getCommentId() != null) ids.add(c.getCommentId());
         }
-        if (repliesLv1 != null) {
-            for (CareerBoardComment c : repliesLv1) if (c != null && c.getCommentId() != null) ids.add(c.getCommentId());
-        }
-        if (repliesLv2 != null) {
-            for (CareerBoardComment c : repliesLv2) if (c != null && c.getCommentId() != null) ids.add(c.getCommentId());
+        if (replies != null) {
+            for (CareerBoardComment c : replies) if (c != null && c.getCommentId() != null) ids.add(c.getCommentId());
         }
         return ids;
     }
-
-    private int resolveCommentDepth(CareerBoardComment comment) {
-        int depth = 0;
-        CareerBoardComment cursor = comment;
-        while (cursor != null && cursor.getParentComment() != null) {
-            depth++;
-            cursor = cursor.getParentComment();
-            if (depth > 10) break;
-        }
-        return depth;
-    }
-
-    private List<CareerBoardComment> collectDescendants(Long rootCommentId) {
-        List<CareerBoardComment> collected = new ArrayList<>();
-        if (rootCommentId == null) return collected;
-
-        List<CareerBoardComment> queue = new ArrayList<>(careerBoardCommentRepository.findByParentCommentCommentId(rootCommentId));
-        while (!queue.isEmpty()) {
-            CareerBoardComment current = queue.remove(0);
-            collected.add(current);
-            queue.addAll(careerBoardCommentRepository.findByParentCommentCommentId(current.getCommentId()));
-        }
-        return collected;
-    }
 }
@@ -0,0 +1,139 @@
+package com.whennawa.service;
+
+import com.whennawa.config.WebSocketAuthHandshakeInterceptor;
+import com.whennawa.util.LongSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.core.MessagePostProcessor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * Decides per recipient session whether a live chat message is delivered.
+ * Block lists are loaded when a logged-in session subscribes to a chat room and refreshed on
+ * {@link UserBlockChangedEvent}, so the outbound path only does map lookups. They are also re-read on an
+ * interval because blocks changed on another instance do not publish that event here.
+ */
+@Component
+public class ChatDeliveryFilter {
+    // 네이티브 STOMP 헤더라 relay 모드에서도 외부 브로커를 거쳐 구독자별 메시지까지 전달된다
+    public static final String SENDER_HEADER = "chatSenderUserId";
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+
+    private final UserBlockCache userBlockCache;
+    private final ConcurrentMap<String, Long> userIdBySession = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> sessionCountByUser = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, LongSet> blockedByUser = new ConcurrentHashMap<>();
+
+    public ChatDeliveryFilter(UserBlockCache userBlockCache) {
+        this.userBlockCache = userBlockCache;
+    }
+
+    public static MessagePostProcessor withSender(Long senderUserId) {
+        return message -> {
+            if (senderUserId == null) {
+                return message;
+            }
+            SimpMessageHeaderAccessor accessor =
+                MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+            if (accessor == null || !accessor.isMutable()) {
+                accessor = SimpMessageHeaderAccessor.wrap(message);
+            }
+            accessor.setNativeHeader(SENDER_HEADER, String.valueOf(senderUserId));
+            return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+        };
+    }
+
+    public boolean shouldDeliver(Message<?> message) {
+        Long senderUserId = parseUserId(
+            NativeMessageHeaderAccessor.getFirstNativeHeader(SENDER_HEADER, message.getHeaders()));
+        if (senderUserId == null) {
+            return true;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        Long recipientUserId = sessionId == null ? null : userIdBySession.get(sessionId);
+        if (recipientUserId == null) {
+            return true;
+        }
+        LongSet blocked = blockedByUser.get(recipientUserId);
+        return blocked == null || !blocked.contains(senderUserId);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        Long userId = extractUserId(accessor.getSessionAttributes());
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX) || sessionId == null || userId == null) {
+            return;
+        }
+        if (userIdBySession.putIfAbsent(sessionId, userId) == null) {
+            sessionCountByUser.merge(userId, 1, Integer::sum);
+        }
+        blockedByUser.computeIfAbsent(userId, userBlockCache::get);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        Long userId = sessionId == null ? null : userIdBySession.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+        sessionCountByUser.computeIfPresent(userId, (key, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            blockedByUser.remove(userId);
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBlockChanged(UserBlockChangedEvent event) {
+        Long userId = event.blockerUserId();
+        if (userId != null && blockedByUser.containsKey(userId)) {
+            blockedByUser.put(userId, userBlockCache.reload(userId));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.block.delivery-refresh-interval-ms:30000}")
+    public void refreshBlockLists() {
+        for (Long userId : blockedByUser.keySet()) {
+            // DB 조회는 맵 락 밖에서 하고, 그 사이 끊긴 사용자는 다시 넣지 않는다
+            LongSet refreshed = userBlockCache.get(userId);
+            blockedByUser.computeIfPresent(userId, (key, current) -> refreshed);
+        }
+    }
+
+    private static Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static Long extractUserId(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object value = sessionAttributes.get(WebSocketAuthHandshakeInterceptor.USER_ID_ATTR);
+        return value instanceof Long userId ? userId : null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Chat room membership resolved once per STOMP session and room.
+ * Entries live until the session disconnects, the user rejoins the room (new nickname)
+ * or the account is withdrawn. Rejoins and withdrawals handled by another instance are not seen here,
+ * so entries also expire after a short TTL and are resolved again from the database.
+ */
+@Component
+public class ChatMembershipCache {
+    private final long ttlMillis;
+    private final ConcurrentMap<String, ConcurrentMap<Long, CachedMembership>> membershipsBySession = new ConcurrentHashMap<>();
+
+    public ChatMembershipCache(AppProperties appProperties) {
+        this.ttlMillis = Math.max(0L, appProperties.getChat().getMembershipCache().getTtlSeconds()) * 1000L;
+    }
+
+    public ChatMembership get(String sessionId, Long companyId) {
+        if (sessionId == null || companyId == null) {
+            return null;
+        }
+        Map<Long, CachedMembership> memberships = membershipsBySession.get(sessionId);
+        CachedMembership cached = memberships == null ? null : memberships.get(companyId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            memberships.remove(companyId, cached);
+            return null;
+        }
+        return cached.membership();
+    }
+
+    public void put(String sessionId, ChatMembership membership) {
+        if (sessionId == null || membership == null || membership.companyId() == null) {
+            return;
+        }
+        membershipsBySession
+            .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+            .put(membership.companyId(), new CachedMembership(membership, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void evictMember(Long userId, Long companyId) {
+        if (userId == null || companyId == null) {
+            return;
+        }
+        for (Map<Long, CachedMembership> memberships : membershipsBySession.values()) {
+            memberships.computeIfPresent(companyId,
+                (key, value) -> userId.equals(value.membership().userId()) ? null : value);
+        }
+    }
+
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        for (Map<Long, CachedMembership> memberships : membershipsBySession.values()) {
+            memberships.values().removeIf(value -> userId.equals(value.membership().userId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getSessionId() != null) {
+            membershipsBySession.remove(event.getSessionId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountWithdrawn(AccountWithdrawnEvent event) {
+        evictUser(event.userId());
+    }
+
+    public record ChatMembership(Long memberId, Long companyId, Long userId, String nickname) {
+    }
+
+    private record CachedMembership(ChatMembership membership, long expiresAtMillis) {
+    }
+}
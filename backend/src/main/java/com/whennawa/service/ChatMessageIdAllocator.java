@@ -0,0 +1,143 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out chat_message ids before the row is written, so write-behind messages are broadcast and
+ * cached with their real id. Each instance reserves a block of ids from chat_message_id_block at a time;
+ * ids left over at shutdown are simply skipped.
+ * The next block is reserved in the background once the current one runs low, and the reservation never
+ * holds the lock senders take, so a sender only waits on the database when both blocks are used up.
+ */
+@Slf4j
+@Component
+public class ChatMessageIdAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final int prefetchThreshold;
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-message-id-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long nextId;
+    private long blockEnd;
+    private Long prefetchedStart;
+    private boolean prefetching;
+
+    public ChatMessageIdAllocator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, appProperties.getChat().getWriteBehind().getIdBlockSize());
+        this.prefetchThreshold = Math.max(1, blockSize / 4);
+    }
+
+    public long nextId() {
+        while (true) {
+            synchronized (this) {
+                if (nextId >= blockEnd && prefetchedStart != null) {
+                    nextId = prefetchedStart;
+                    blockEnd = prefetchedStart + blockSize;
+                    prefetchedStart = null;
+                }
+                if (nextId < blockEnd) {
+                    long id = nextId++;
+                    if (blockEnd - nextId <= prefetchThreshold && prefetchedStart == null && !prefetching) {
+                        prefetching = true;
+                        try {
+                            prefetchExecutor.execute(this::prefetch);
+                        } catch (RejectedExecutionException ex) {
+                            // 종료 중이면 다 쓴 뒤 refill 로 예약한다
+                            prefetching = false;
+                        }
+                    }
+                    return id;
+                }
+            }
+            refill();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    // 미리 받아 둔 블록도 없을 때만 요청 스레드가 직접 예약한다. 동시에 온 요청은 한 번만 예약한다
+    private void refill() {
+        refillLock.lock();
+        try {
+            synchronized (this) {
+                if (nextId < blockEnd || prefetchedStart != null) {
+                    return;
+                }
+            }
+            long start = reserve();
+            synchronized (this) {
+                if (nextId >= blockEnd) {
+                    nextId = start;
+                    blockEnd = start + blockSize;
+                } else if (prefetchedStart == null) {
+                    prefetchedStart = start;
+                }
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private void prefetch() {
+        try {
+            long start = reserve();
+            synchronized (this) {
+                if (prefetchedStart == null) {
+                    prefetchedStart = start;
+                }
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            // 다 쓰면 요청 스레드가 refill 에서 다시 시도한다
+            log.warn("Failed to prefetch chat message id block: {}", ex.getMessage());
+        } finally {
+            synchronized (this) {
+                prefetching = false;
+            }
+        }
+    }
+
+    private long reserve() {
+        Long start = transactionTemplate.execute(status -> reserveBlock());
+        if (start == null) {
+            throw new IllegalStateException("chat_message_id_block is missing");
+        }
+        return start;
+    }
+
+    private Long reserveBlock() {
+        Long next = jdbcTemplate.queryForObject(
+            "SELECT next_id FROM chat_message_id_block WHERE block_id = 1 FOR UPDATE", Long.class);
+        // write-behind 를 껐던 동안 AUTO_INCREMENT 로 들어간 id 를 건너뛴다
+        Long maxMessageId = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(message_id), 0) FROM chat_message", Long.class);
+        long start = Math.max(next == null ? 1L : next, (maxMessageId == null ? 0L : maxMessageId) + 1);
+        jdbcTemplate.update("UPDATE chat_message_id_block SET next_id = ? WHERE block_id = 1", start + blockSize);
+        return start;
+    }
+}
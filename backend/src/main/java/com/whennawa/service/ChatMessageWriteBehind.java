@@ -0,0 +1,226 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Write-behind persistence for chat messages (app.chat.write-behind.enabled).
+ * Messages are broadcast before they are stored, already carrying an id from {@link ChatMessageIdAllocator};
+ * a single writer thread drains the FIFO queue and inserts them in JDBC batches in arrival order.
+ * All instances sharing a database must use the same mode, since AUTO_INCREMENT inserts do not see reserved ids.
+ * On shutdown the queue is drained after the web server has stopped accepting messages.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind implements SmartLifecycle {
+    private static final String INSERT_SQL = """
+        INSERT INTO chat_message (message_id, company_id, member_id, sender_nickname, message, mask_version, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties.Chat.WriteBehind settings;
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final Timer writeLag;
+    private final Counter persisted;
+    private final Counter failed;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ChatMessageWriteBehind(JdbcTemplate jdbcTemplate, AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = appProperties.getChat().getWriteBehind();
+        this.queue = new LinkedBlockingQueue<>(Math.max(settings.getQueueCapacity(), 1));
+        Gauge.builder("chat.write_behind.queue.depth", queue, BlockingQueue::size)
+            .description("Chat messages waiting to be persisted")
+            .register(meterRegistry);
+        this.writeLag = Timer.builder("chat.write_behind.lag")
+            .description("Time between accepting a chat message and persisting it")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.persisted = Counter.builder("chat.write_behind.persisted").register(meterRegistry);
+        this.failed = Counter.builder("chat.write_behind.failed").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    public void enqueue(PendingChatMessage message) {
+        if (!running) {
+            // 기동 전/종료 중에는 바로 저장한다
+            writeBatch(List.of(message));
+            return;
+        }
+        try {
+            if (!queue.offer(message, settings.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Chat is busy");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Chat is busy");
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!settings.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "chat-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            // JDBC 호출 중 인터럽트하지 않도록 poll 타임아웃으로 루프가 끝나길 기다린다
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (current.isAlive()) {
+                // 아직 쓰는 중인 writer 와 같은 큐를 나눠 비우면 순서가 섞이거나 중복 저장될 수 있다
+                log.warn("Chat write-behind writer did not stop in time; {} messages left unsaved", queue.size());
+                return;
+            }
+        }
+        flushRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버/브로커보다 늦게 멈춰야 종료 중 들어온 메시지까지 저장된다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.max(settings.getBatchSize(), 1);
+        long flushIntervalMs = Math.max(settings.getFlushIntervalMs(), 1L);
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException ex) {
+                log.error("Chat write-behind loop failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        int batchSize = Math.max(settings.getBatchSize(), 1);
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingChatMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bind(ps, batch.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            recordPersisted(batch);
+        } catch (DataAccessException ex) {
+            // 배치가 실패하면 한 건씩 다시 시도해서 문제 행만 버린다
+            log.warn("Chat batch insert of {} messages failed, retrying one by one: {}", batch.size(), ex.getMessage());
+            for (PendingChatMessage message : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, message));
+                    recordPersisted(List.of(message));
+                } catch (DataAccessException rowEx) {
+                    failed.increment();
+                    log.error("Dropping chat message for company {} member {}: {}",
+                        message.companyId(), message.memberId(), rowEx.getMessage());
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingChatMessage message) throws SQLException {
+        ps.setLong(1, message.messageId());
+        ps.setLong(2, message.companyId());
+        ps.setLong(3, message.memberId());
+        ps.setString(4, message.senderNickname());
+        ps.setString(5, message.message());
+        ps.setString(6, message.maskVersion());
+        ps.setObject(7, message.createdAt());
+        ps.setObject(8, message.createdAt());
+    }
+
+    private void recordPersisted(List<PendingChatMessage> batch) {
+        long now = System.nanoTime();
+        for (PendingChatMessage message : batch) {
+            writeLag.record(Duration.ofNanos(now - message.acceptedAtNanos()));
+        }
+        persisted.increment(batch.size());
+    }
+
+    public record PendingChatMessage(
+        Long messageId,
+        Long companyId,
+        Long memberId,
+        String senderNickname,
+        String message,
+        String maskVersion,
+        LocalDateTime createdAt,
+        long acceptedAtNanos
+    ) {
+    }
+}
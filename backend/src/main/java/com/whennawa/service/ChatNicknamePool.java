@@ -0,0 +1,159 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.ChatRoomMemberRepository;
+import com.whennawa.util.NicknameGenerator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Per-room chat nickname allocation over the whole {@link NicknameGenerator#NICKNAME_SPACE}.
+ * Each room keeps a paged bitmap of taken nicknames, seeded once from chat_room_member.
+ * Rooms are sparse, so a random probe almost always hits a free slot on the first try.
+ * The (company_id, nickname) unique index stays the final guard across instances.
+ */
+@Component
+public class ChatNicknamePool {
+    private static final int PAGE_BITS = 1024;
+    private static final int WORDS_PER_PAGE = PAGE_BITS / Long.SIZE;
+    private static final int PAGE_COUNT = (NicknameGenerator.NICKNAME_SPACE + PAGE_BITS - 1) / PAGE_BITS;
+    private static final int RANDOM_PROBES = 32;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final NicknameGenerator nicknameGenerator;
+    private final AppProperties appProperties;
+    private final ConcurrentMap<Long, RoomNicknames> rooms = new ConcurrentHashMap<>();
+
+    public ChatNicknamePool(ChatRoomMemberRepository chatRoomMemberRepository,
+                            NicknameGenerator nicknameGenerator,
+                            AppProperties appProperties) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.nicknameGenerator = nicknameGenerator;
+        this.appProperties = appProperties;
+    }
+
+    public String allocate(Long companyId) {
+        RoomNicknames room = room(companyId);
+        synchronized (room) {
+            seedIfNeeded(companyId, room);
+            for (int probe = 0; probe < RANDOM_PROBES; probe++) {
+                int index = nicknameGenerator.randomIndex();
+                if (room.claim(index)) {
+                    return nicknameGenerator.nicknameAt(index);
+                }
+            }
+            // 방이 거의 찬 경우에만 도달한다
+            int index = room.claimFirstFree(nicknameGenerator.randomIndex());
+            if (index < 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "No chat nickname available");
+            }
+            return nicknameGenerator.nicknameAt(index);
+        }
+    }
+
+    public void release(Long companyId, String nickname) {
+        int index = nicknameGenerator.indexOf(nickname);
+        RoomNicknames room = companyId == null ? null : rooms.get(companyId);
+        if (index < 0 || room == null) {
+            return;
+        }
+        synchronized (room) {
+            room.clear(index);
+        }
+    }
+
+    public void evict(Long companyId) {
+        if (companyId != null) {
+            rooms.remove(companyId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.nickname-pool.evict-check-ms:60000}")
+    public void evictIdleRooms() {
+        long idleCutoff = System.currentTimeMillis()
+            - appProperties.getChat().getNicknamePool().getIdleEvictMinutes() * 60_000L;
+        rooms.entrySet().removeIf(entry -> entry.getValue().lastAccessAt < idleCutoff);
+    }
+
+    private RoomNicknames room(Long companyId) {
+        if (companyId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Company id is required");
+        }
+        RoomNicknames room = rooms.computeIfAbsent(companyId, key -> new RoomNicknames());
+        room.lastAccessAt = System.currentTimeMillis();
+        return room;
+    }
+
+    private void seedIfNeeded(Long companyId, RoomNicknames room) {
+        if (room.seeded) {
+            return;
+        }
+        for (String nickname : chatRoomMemberRepository.findNicknamesByCompanyId(companyId)) {
+            int index = nicknameGenerator.indexOf(nickname);
+            if (index >= 0) {
+                room.claim(index);
+            }
+        }
+        room.seeded = true;
+    }
+
+    private static final class RoomNicknames {
+        // 페이지는 처음 쓰일 때 할당한다
+        private final long[][] pages = new long[PAGE_COUNT][];
+        private int used;
+        private boolean seeded;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        private boolean claim(int index) {
+            long[] page = pages[index / PAGE_BITS];
+            if (page == null) {
+                page = new long[WORDS_PER_PAGE];
+                pages[index / PAGE_BITS] = page;
+            }
+            int bit = index % PAGE_BITS;
+            long mask = 1L << (bit % Long.SIZE);
+            if ((page[bit / Long.SIZE] & mask) != 0) {
+                return false;
+            }
+            page[bit / Long.SIZE] |= mask;
+            used++;
+            return true;
+        }
+
+        private void clear(int index) {
+            long[] page = pages[index / PAGE_BITS];
+            if (page == null) {
+                return;
+            }
+            int bit = index % PAGE_BITS;
+            long mask = 1L << (bit % Long.SIZE);
+            if ((page[bit / Long.SIZE] & mask) != 0) {
+                page[bit / Long.SIZE] &= ~mask;
+                used--;
+            }
+        }
+
+        private int claimFirstFree(int start) {
+            if (used >= NicknameGenerator.NICKNAME_SPACE) {
+                return -1;
+            }
+            for (int offset = 0; offset < NicknameGenerator.NICKNAME_SPACE; offset += Long.SIZE) {
+                int base = (start + offset) % NicknameGenerator.NICKNAME_SPACE;
+                base -= base % Long.SIZE;
+                long[] page = pages[base / PAGE_BITS];
+                long word = page == null ? 0L : page[(base % PAGE_BITS) / Long.SIZE];
+                if (word != -1L) {
+                    int index = base + Long.numberOfTrailingZeros(~word);
+                    if (index < NicknameGenerator.NICKNAME_SPACE && claim(index)) {
+                        return index;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
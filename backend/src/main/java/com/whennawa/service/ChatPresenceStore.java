@@ -0,0 +1,80 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-instance chat presence counts shared through the database, used when the broker relay spreads
+ * one room's sessions over several instances. Each instance writes its own row per room and refreshes
+ * it on a heartbeat; a room's presence is the sum of rows refreshed within the instance TTL, so counts
+ * of a crashed instance drop out on their own.
+ */
+@Component
+public class ChatPresenceStore {
+    private static final String UPSERT_SQL =
+        "INSERT INTO chat_presence (instance_id, company_id, session_count, updated_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE session_count = VALUES(session_count), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ChatPresenceStore(JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.appProperties = appProperties;
+    }
+
+    public void save(Map<Long, Long> countsByRoom) {
+        if (countsByRoom.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(countsByRoom.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, instanceId);
+                ps.setLong(2, rows.get(i).getKey());
+                ps.setLong(3, rows.get(i).getValue());
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    public long total(Long companyId) {
+        Long total = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(session_count), 0) FROM chat_presence WHERE company_id = ? AND updated_at >= ?",
+            Long.class, companyId, Timestamp.valueOf(liveCutoff()));
+        return total == null ? 0L : Math.max(0L, total);
+    }
+
+    // TTL 이 지난 다른 인스턴스 행과 이 인스턴스의 빈 방 행을 지운다
+    public void purge() {
+        jdbcTemplate.update("DELETE FROM chat_presence WHERE updated_at < ?", Timestamp.valueOf(liveCutoff()));
+        jdbcTemplate.update("DELETE FROM chat_presence WHERE instance_id = ? AND session_count <= 0", instanceId);
+    }
+
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM chat_presence WHERE instance_id = ?", instanceId);
+    }
+
+    private LocalDateTime liveCutoff() {
+        return LocalDateTime.now().minusSeconds(
+            Math.max(1L, appProperties.getChat().getPresence().getInstanceTtlSeconds()));
+    }
+}
@@ -0,0 +1,297 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.chat.ChatPresenceResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * Number of STOMP sessions subscribed to each chat room.
+ * A session counts once per room no matter how many subscriptions it holds.
+ * Changed rooms are broadcast at most once per second. In relay mode the sessions of a room are spread
+ * over instances, so this instance's counts are written to {@link ChatPresenceStore} and the broadcast
+ * and {@link #count} report the sum across instances. The other instances' share of a room is read from the
+ * store at most once per {@code app.chat.presence.shared-count-ttl-ms}; this instance's own sessions are
+ * always counted live on top of it.
+ */
+@Slf4j
+@Component
+public class ChatPresenceTracker {
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/room/";
+    private static final long TOMBSTONE_TTL_MS = 5 * 60_000L;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatPresenceStore chatPresenceStore;
+    private final boolean shared;
+    private final long sharedCountTtlMs;
+    private final ConcurrentMap<Long, LongAdder> countsByRoom = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SessionRooms> roomsBySession = new ConcurrentHashMap<>();
+    // 구독 이벤트가 끊김 이벤트보다 늦게 처리되는 경우를 막기 위해 끊긴 세션을 잠시 기억한다
+    private final ConcurrentMap<String, Long> closedSessions = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+    // relay 모드: 이 인스턴스가 마지막으로 기록한 방별 접속자 수와, 합계에서 그 몫을 뺀 다른 인스턴스 몫
+    private final ConcurrentMap<Long, Long> savedCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, OtherInstances> othersByRoom = new ConcurrentHashMap<>();
+
+    public ChatPresenceTracker(SimpMessagingTemplate messagingTemplate,
+                               ChatPresenceStore chatPresenceStore,
+                               AppProperties appProperties) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatPresenceStore = chatPresenceStore;
+        this.shared = appProperties.getWebsocket().getBroker().getMode() == AppProperties.WebSocket.BrokerMode.RELAY;
+        this.sharedCountTtlMs = Math.max(0L, appProperties.getChat().getPresence().getSharedCountTtlMs());
+    }
+
+    public long count(Long companyId) {
+        if (!shared || companyId == null) {
+            return localCount(companyId);
+        }
+        long now = System.currentTimeMillis();
+        OtherInstances others = othersByRoom.get(companyId);
+        if (others == null || others.expiresAtMillis() <= now) {
+            try {
+                long total = chatPresenceStore.total(companyId);
+                others = new OtherInstances(
+                    Math.max(0L, total - savedCounts.getOrDefault(companyId, 0L)), now + sharedCountTtlMs);
+                othersByRoom.put(companyId, others);
+            } catch (DataAccessException ex) {
+                log.warn("Failed to read shared presence for room {}: {}", companyId, ex.getMessage());
+                if (others == null) {
+                    return localCount(companyId);
+                }
+            }
+        }
+        return others.total() + localCount(companyId);
+    }
+
+    public static String presenceDestination(Long companyId) {
+        return ROOM_DESTINATION_PREFIX + companyId + "/presence";
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long companyId = parseRoomId(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (companyId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+        if (closedSessions.containsKey(sessionId)) {
+            return;
+        }
+        SessionRooms rooms = roomsBySession.computeIfAbsent(sessionId, key -> new SessionRooms());
+        if (rooms.add(subscriptionId, companyId)) {
+            adjust(companyId, 1);
+        }
+        // computeIfAbsent 직후 끊김 이벤트가 처리됐다면 방금 올린 카운트를 되돌린다
+        if (closedSessions.containsKey(sessionId)) {
+            release(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        SessionRooms rooms = roomsBySession.get(sessionId);
+        if (rooms == null) {
+            return;
+        }
+        Long released = rooms.remove(subscriptionId);
+        if (released != null) {
+            adjust(released, -1);
+        }
+    }
+
+    // DISCONNECT 프레임, 소켓 종료, 하트비트 타임아웃 모두 여기로 오며 중복 호출될 수 있다
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+        closedSessions.put(sessionId, System.currentTimeMillis());
+        release(sessionId);
+    }
+
+    @Scheduled(fixedRateString = "${app.chat.presence.broadcast-interval-ms:1000}")
+    public void broadcastChanges() {
+        if (dirtyRooms.isEmpty()) {
+            return;
+        }
+        List<Long> changed = new ArrayList<>();
+        Iterator<Long> iterator = dirtyRooms.iterator();
+        while (iterator.hasNext()) {
+            changed.add(iterator.next());
+            iterator.remove();
+        }
+        if (shared) {
+            // 다른 인스턴스가 합계를 읽기 전에 이 인스턴스 몫을 먼저 기록한다
+            saveShared(changed);
+        }
+        for (Long companyId : changed) {
+            try {
+                messagingTemplate.convertAndSend(presenceDestination(companyId),
+                    new ChatPresenceResponse(companyId, count(companyId)));
+            } catch (MessagingException ex) {
+                log.warn("Failed to broadcast presence for room {}: {}", companyId, ex.getMessage());
+            }
+        }
+    }
+
+    // 변경이 없는 방도 주기적으로 다시 기록해 TTL 안에 남겨 둔다
+    @Scheduled(fixedDelayString = "${app.chat.presence.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!shared) {
+            return;
+        }
+        List<Long> occupied = new ArrayList<>();
+        for (Long companyId : countsByRoom.keySet()) {
+            if (localCount(companyId) > 0) {
+                occupied.add(companyId);
+            }
+        }
+        saveShared(occupied);
+        long now = System.currentTimeMillis();
+        othersByRoom.values().removeIf(others -> others.expiresAtMillis() <= now);
+        try {
+            chatPresenceStore.purge();
+        } catch (DataAccessException ex) {
+            log.warn("Failed to purge shared presence: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void clearShared() {
+        if (!shared) {
+            return;
+        }
+        try {
+            chatPresenceStore.clear();
+        } catch (DataAccessException ex) {
+            log.warn("Failed to clear shared presence: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.presence.tombstone-sweep-ms:60000}")
+    public void sweepClosedSessions() {
+        long cutoff = System.currentTimeMillis() - TOMBSTONE_TTL_MS;
+        closedSessions.values().removeIf(closedAt -> closedAt < cutoff);
+    }
+
+    private long localCount(Long companyId) {
+        LongAdder adder = companyId == null ? null : countsByRoom.get(companyId);
+        return adder == null ? 0L : Math.max(0L, adder.sum());
+    }
+
+    private void saveShared(List<Long> companyIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long companyId : companyIds) {
+            counts.put(companyId, localCount(companyId));
+        }
+        try {
+            chatPresenceStore.save(counts);
+            savedCounts.putAll(counts);
+        } catch (DataAccessException ex) {
+            // 다음 주기에 다시 기록한다
+            log.warn("Failed to save shared presence for {} rooms: {}", counts.size(), ex.getMessage());
+            dirtyRooms.addAll(companyIds);
+        }
+    }
+
+    private void release(String sessionId) {
+        SessionRooms rooms = roomsBySession.remove(sessionId);
+        if (rooms == null) {
+            return;
+        }
+        for (Long companyId : rooms.clear()) {
+            adjust(companyId, -1);
+        }
+    }
+
+    private void adjust(Long companyId, int delta) {
+        countsByRoom.computeIfAbsent(companyId, key -> new LongAdder()).add(delta);
+        dirtyRooms.add(companyId);
+    }
+
+    private static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String id = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException ex) {
+            // /presence 같은 하위 목적지는 방 입장이 아니다
+            return null;
+        }
+    }
+
+    private record OtherInstances(long total, long expiresAtMillis) {
+    }
+
+    /**
+     * Subscriptions of one session. Mutations are serialized per session,
+     * so the per-room adders only move when the session's first subscription to a room
+     * appears or its last one goes away.
+     */
+    private static final class SessionRooms {
+        private final Map<String, Long> roomBySubscription = new HashMap<>();
+        private boolean cleared;
+
+        synchronized boolean add(String subscriptionId, Long companyId) {
+            if (cleared || roomBySubscription.containsKey(subscriptionId)) {
+                return false;
+            }
+            boolean firstForRoom = !roomBySubscription.containsValue(companyId);
+            roomBySubscription.put(subscriptionId, companyId);
+            return firstForRoom;
+        }
+
+        synchronized Long remove(String subscriptionId) {
+            if (cleared) {
+                return null;
+            }
+            Long companyId = roomBySubscription.remove(subscriptionId);
+            if (companyId == null || roomBySubscription.containsValue(companyId)) {
+                return null;
+            }
+            return companyId;
+        }
+
+        synchronized Set<Long> clear() {
+            if (cleared) {
+                return Set.of();
+            }
+            cleared = true;
+            Set<Long> rooms = new HashSet<>(roomBySubscription.values());
+            roomBySubscription.clear();
+            return rooms;
+        }
+    }
+}
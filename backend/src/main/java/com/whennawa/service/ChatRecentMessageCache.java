@@ -0,0 +1,305 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.chat.ChatMessageResponse;
+import com.whennawa.repository.ChatMessageRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Last N already-masked messages per active chat room.
+ * A room is hydrated from the database once, then kept current from the send path;
+ * in relay mode it is also re-read after a short interval because messages sent through other
+ * instances never reach this buffer. Rooms nobody touched for a while are evicted.
+ * Each entry remembers the profanity dictionary version it was masked with and is only
+ * re-masked when the dictionary changed since; stale database rows are rewritten in the background.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRecentMessageCache {
+    private static final int STALE_REWRITE_BATCH = 200;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ProfanityMasker profanityMasker;
+    private final AppProperties appProperties;
+    private final ConcurrentMap<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final Queue<StaleRow> staleRows = new ConcurrentLinkedQueue<>();
+
+    // 오래된 것부터 최신 순으로 반환
+    public List<ChatMessageResponse> recent(Long companyId) {
+        RoomBuffer buffer = room(companyId);
+        hydrateIfNeeded(companyId, buffer);
+        synchronized (buffer) {
+            buffer.remaskStale(profanityMasker);
+            return buffer.snapshot();
+        }
+    }
+
+    /**
+     * @param persisted true when the message is already committed to the database.
+     *                  Such messages are skipped for rooms that are not hydrated yet
+     *                  because the hydration query will pick them up.
+     */
+    public void append(ChatMessageResponse message, String maskVersion, boolean persisted) {
+        if (message == null || message.companyId() == null) {
+            return;
+        }
+        RoomBuffer buffer = room(message.companyId());
+        synchronized (buffer) {
+            // 커밋된 메시지는 하이드레이션 쿼리가 가져간다. 쿼리가 이미 실행 중이면 놓칠 수 있어 쌓아 둔다
+            if (!buffer.hydrated && persisted && !buffer.refreshing) {
+                return;
+            }
+            if (message.messageId() != null && buffer.containsRecent(message.messageId())) {
+                return;
+            }
+            buffer.add(message, maskVersion);
+        }
+    }
+
+    public void evict(Long companyId) {
+        if (companyId != null) {
+            rooms.remove(companyId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.recent-cache.evict-check-ms:60000}")
+    public void evictIdleRooms() {
+        long idleCutoff = System.currentTimeMillis()
+            - appProperties.getChat().getRecentCache().getIdleEvictMinutes() * 60_000L;
+        rooms.entrySet().removeIf(entry -> entry.getValue().lastAccessAt < idleCutoff);
+    }
+
+    // 이전 사전으로 마스킹된 채 저장된 행을 현재 버전으로 다시 기록한다
+    @Scheduled(fixedDelayString = "${app.chat.profanity.rewrite-interval-ms:10000}")
+    public void rewriteStaleRows() {
+        int limit = STALE_REWRITE_BATCH;
+        StaleRow row;
+        while (limit-- > 0 && (row = staleRows.poll()) != null) {
+            chatMessageRepository.updateMaskedMessage(row.messageId(), row.message(), row.maskVersion());
+        }
+    }
+
+    private RoomBuffer room(Long companyId) {
+        RoomBuffer buffer = rooms.computeIfAbsent(companyId, key -> new RoomBuffer(capacity()));
+        buffer.lastAccessAt = System.currentTimeMillis();
+        return buffer;
+    }
+
+    // DB 조회는 버퍼 락 밖에서 하고, 결과를 합칠 때만 락을 잡는다
+    private void hydrateIfNeeded(Long companyId, RoomBuffer buffer) {
+        synchronized (buffer) {
+            if (!needsHydration(buffer)) {
+                return;
+            }
+            if (buffer.hydrated && buffer.refreshing) {
+                // 다른 요청이 새로 읽는 중이면 지금 버퍼로 답한다
+                return;
+            }
+            buffer.refreshing = true;
+        }
+        try {
+            Loaded loaded = load(companyId);
+            synchronized (buffer) {
+                merge(buffer, loaded);
+            }
+        } finally {
+            synchronized (buffer) {
+                buffer.refreshing = false;
+            }
+        }
+    }
+
+    // relay 모드에서는 다른 인스턴스로 들어온 메시지가 이 버퍼에 append 되지 않으므로 주기적으로 DB 에서 다시 읽는다
+    private boolean needsHydration(RoomBuffer buffer) {
+        if (!buffer.hydrated) {
+            return true;
+        }
+        if (appProperties.getWebsocket().getBroker().getMode() != AppProperties.WebSocket.BrokerMode.RELAY) {
+            return false;
+        }
+        long refreshMillis = appProperties.getChat().getRecentCache().getRelayRefreshSeconds() * 1000L;
+        return System.currentTimeMillis() - buffer.hydratedAt >= refreshMillis;
+    }
+
+    private Loaded load(Long companyId) {
+        List<ChatMessageRepository.ChatMessageRow> rows =
+            chatMessageRepository.findRecentRows(companyId, PageRequest.of(0, capacity()));
+        List<ChatMessageResponse> messages = new ArrayList<>(rows.size());
+        List<String> versions = new ArrayList<>(rows.size());
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            ChatMessageRepository.ChatMessageRow row = rows.get(i);
+            String text = row.getMessage();
+            String version = row.getMaskVersion();
+            if (!profanityMasker.isCurrentVersion(version)) {
+                ProfanityMasker.MaskedText masked = profanityMasker.maskWithVersion(text);
+                queueRewrite(row.getMessageId(), masked);
+                text = masked.text();
+                version = masked.version();
+            }
+            messages.add(new ChatMessageResponse(
+                row.getMessageId(),
+                row.getCompanyId(),
+                row.getSenderUserId(),
+                row.getSenderNickname(),
+                text,
+                row.getCreatedAt()
+            ));
+            versions.add(version);
+        }
+        return new Loaded(messages, versions);
+    }
+
+    private void merge(RoomBuffer buffer, Loaded loaded) {
+        Set<Long> loadedIds = new HashSet<>();
+        for (ChatMessageResponse message : loaded.messages()) {
+            loadedIds.add(message.messageId());
+        }
+        // 조회 결과가 꽉 찼으면 가장 오래된 행보다 이전 메시지는 이미 창 밖이다
+        LocalDateTime oldestLoadedAt = loaded.messages().size() < capacity()
+            ? null
+            : loaded.messages().get(0).timestamp();
+        List<Entry> merged = new ArrayList<>();
+        for (int i = 0; i < loaded.messages().size(); i++) {
+            merged.add(new Entry(loaded.messages().get(i), loaded.versions().get(i)));
+        }
+        // 조회에 없던 메시지(write-behind 대기 중이거나 조회 뒤에 커밋된 것)는 유지한다
+        List<ChatMessageResponse> pending = buffer.snapshot();
+        List<String> pendingVersions = buffer.versionSnapshot();
+        for (int i = 0; i < pending.size(); i++) {
+            ChatMessageResponse message = pending.get(i);
+            if (message.messageId() != null && loadedIds.contains(message.messageId())) {
+                continue;
+            }
+            if (oldestLoadedAt != null && message.timestamp() != null && message.timestamp().isBefore(oldestLoadedAt)) {
+                continue;
+            }
+            merged.add(new Entry(message, pendingVersions.get(i)));
+        }
+        merged.sort(Comparator.comparing((Entry entry) -> entry.message().timestamp(),
+            Comparator.nullsLast(Comparator.naturalOrder())));
+        buffer.clear();
+        for (Entry entry : merged) {
+            buffer.add(entry.message(), entry.version());
+        }
+        buffer.hydrated = true;
+        buffer.hydratedAt = System.currentTimeMillis();
+    }
+
+    private void queueRewrite(Long messageId, ProfanityMasker.MaskedText masked) {
+        if (messageId == null || !appProperties.getChat().getProfanity().isRewriteStale()) {
+            return;
+        }
+        staleRows.offer(new StaleRow(messageId, masked.text(), masked.version()));
+    }
+
+    private int capacity() {
+        return Math.max(1, appProperties.getChat().getRecentFetchMax());
+    }
+
+    private record Loaded(List<ChatMessageResponse> messages, List<String> versions) {
+    }
+
+    private record Entry(ChatMessageResponse message, String version) {
+    }
+
+    private record StaleRow(Long messageId, String message, String maskVersion) {
+    }
+
+    private static final class RoomBuffer {
+        private static final int DEDUPE_WINDOW = 32;
+
+        private final ChatMessageResponse[] ring;
+        private final String[] versions;
+        private int head;
+        private int size;
+        private boolean hydrated;
+        private boolean refreshing;
+        private long hydratedAt;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        private RoomBuffer(int capacity) {
+            this.ring = new ChatMessageResponse[capacity];
+            this.versions = new String[capacity];
+        }
+
+        private void add(ChatMessageResponse message, String maskVersion) {
+            int tail = (head + size) % ring.length;
+            ring[tail] = message;
+            versions[tail] = maskVersion;
+            if (size < ring.length) {
+                size++;
+            } else {
+                head = (head + 1) % ring.length;
+            }
+        }
+
+        private boolean containsRecent(Long messageId) {
+            int checked = Math.min(size, DEDUPE_WINDOW);
+            for (int i = 1; i <= checked; i++) {
+                ChatMessageResponse item = ring[(head + size - i) % ring.length];
+                if (item != null && Objects.equals(item.messageId(), messageId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private List<ChatMessageResponse> snapshot() {
+            List<ChatMessageResponse> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(ring[(head + i) % ring.length]);
+            }
+            return items;
+        }
+
+        private List<String> versionSnapshot() {
+            List<String> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(versions[(head + i) % ring.length]);
+            }
+            return items;
+        }
+
+        // 사전이 바뀐 뒤 처음 읽힐 때만 다시 마스킹한다
+        private void remaskStale(ProfanityMasker masker) {
+            for (int i = 0; i < size; i++) {
+                int index = (head + i) % ring.length;
+                if (masker.isCurrentVersion(versions[index])) {
+                    continue;
+                }
+                ChatMessageResponse item = ring[index];
+                ProfanityMasker.MaskedText masked = masker.maskWithVersion(item.message());
+                ring[index] = new ChatMessageResponse(
+                    item.messageId(),
+                    item.companyId(),
+                    item.senderUserId(),
+                    item.senderNickname(),
+                    masked.text(),
+                    item.timestamp()
+                );
+                versions[index] = masked.version();
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(ring, null);
+            Arrays.fill(versions, null);
+            head = 0;
+            size = 0;
+        }
+    }
+}
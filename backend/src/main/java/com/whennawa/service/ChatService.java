@@ -1,6 +1,7 @@
 package com.whennawa.service;
 
 import com.whennawa.config.AppProperties;
+import com.whennawa.dto.chat.ChatHistoryResponse;
 import com.whennawa.dto.chat.ChatMessageRequest;
 import com.whennawa.dto.chat.ChatMessageResponse;
 import com.whennawa.entity.ChatMessage;
@@ -11,22 +12,29 @@ import com.whennawa.repository.ChatMessageRepository;
 import com.whennawa.repository.ChatRoomMemberRepository;
 import com.whennawa.repository.CompanyRepository;
 import com.whennawa.repository.UserRepository;
-import com.whennawa.util.NicknameGenerator;
-import java.util.Comparator;
+import com.whennawa.util.LongSet;
+import com.whennawa.util.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
+    private static final int NICKNAME_ATTEMPTS = 3;
+
     private final AppProperties appProperties;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
@@ -34,7 +42,11 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final UserBlockService userBlockService;
     private final ProfanityMasker profanityMasker;
-    private final NicknameGenerator nicknameGenerator;
+    private final ChatNicknamePool chatNicknamePool;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatMembershipCache chatMembershipCache;
     private final ConcurrentMap<Long, Long> lastChatAtByUserId = new ConcurrentHashMap<>();
 
     @Transactional
@@ -48,71 +60,177 @@ public class ChatService {
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated"));
 
         ChatRoomMember member = findOrCreateMember(company, user);
-        String roomNickname = allocateRoomNickname(company.getCompanyId());
-        member.setNickname(roomNickname);
-        return chatRoomMemberRepository.save(member).getNickname();
+        String previousNickname = member.getNickname();
+        String nickname = saveWithRoomNickname(member, company.getCompanyId()).getNickname();
+        TransactionCallbacks.afterCommit(() -> {
+            chatMembershipCache.evictMember(user.getId(), company.getCompanyId());
+            chatNicknamePool.release(company.getCompanyId(), previousNickname);
+        });
+        return nickname;
     }
 
-    @Transactional
-    public ChatMessageResponse processAndSave(ChatMessageRequest request, Long userId) {
+    // 트랜잭션 없이 동작: 멤버십은 세션 캐시에서, 저장은 insert 한 번(또는 write-behind)
+    public ChatMessageResponse processAndSave(ChatMessageRequest request, Long userId, String sessionId) {
         if (request == null || request.getCompanyId() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid request");
         }
         enforceChatCooldown(userId);
         String messageText = normalizeMessage(request.getMessage());
-        Company company = companyRepository.findById(request.getCompanyId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Company not found"));
-        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated"));
+        ChatMembershipCache.ChatMembership membership = resolveMembership(sessionId, request.getCompanyId(), userId);
+        ProfanityMasker.MaskedText masked = profanityMasker.maskWithVersion(messageText);
+        String maskedText = masked.text();
 
-        ChatRoomMember member = findOrCreateMember(company, user);
+        if (chatMessageWriteBehind.isEnabled()) {
+            // 저장은 백그라운드 writer 가 맡고 응답은 미리 받은 id 로 바로 브로드캐스트된다
+            long messageId = chatMessageIdAllocator.nextId();
+            // DATETIME 컬럼과 같은 초 단위로 맞춰 응답 시각이 저장값과 같게 한다
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            ChatMessageResponse response = new ChatMessageResponse(
+                messageId,
+                membership.companyId(),
+                membership.userId(),
+                membership.nickname(),
+                maskedText,
+                now
+            );
+            chatRecentMessageCache.append(response, masked.version(), false);
+            chatMessageWriteBehind.enqueue(new ChatMessageWriteBehind.PendingChatMessage(
+                messageId,
+                membership.companyId(),
+                membership.memberId(),
+                membership.nickname(),
+                maskedText,
+                masked.version(),
+                now,
+                System.nanoTime()
+            ));
+            return response;
+        }
 
         ChatMessage message = new ChatMessage();
-        message.setCompany(company);
-        message.setMember(member);
-        message.setSenderNickname(member.getNickname());
-        message.setMessage(profanityMasker.mask(messageText));
+        message.setCompany(companyRepository.getReferenceById(membership.companyId()));
+        message.setMember(chatRoomMemberRepository.getReferenceById(membership.memberId()));
+        message.setSenderNickname(membership.nickname());
+        message.setMessage(maskedText);
+        message.setMaskVersion(masked.version());
         ChatMessage saved = chatMessageRepository.save(message);
 
-        return new ChatMessageResponse(
-            company.getCompanyId(),
-            user.getId(),
+        ChatMessageResponse response = new ChatMessageResponse(
+            saved.getMessageId(),
+            membership.companyId(),
+            membership.userId(),
             saved.getSenderNickname(),
             saved.getMessage(),
             saved.getCreatedAt()
         );
+        chatRecentMessageCache.append(response, saved.getMaskVersion(), true);
+        return response;
+    }
+
+    private ChatMembershipCache.ChatMembership resolveMembership(String sessionId, Long companyId, Long userId) {
+        ChatMembershipCache.ChatMembership cached = chatMembershipCache.get(sessionId, companyId);
+        if (cached != null && cached.userId().equals(userId)) {
+            return cached;
+        }
+        Company company = companyRepository.findById(companyId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Company not found"));
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated"));
+        ChatRoomMember member = findOrCreateMember(company, user);
+        ChatMembershipCache.ChatMembership membership = new ChatMembershipCache.ChatMembership(
+            member.getMemberId(),
+            company.getCompanyId(),
+            user.getId(),
+            member.getNickname()
+        );
+        chatMembershipCache.put(sessionId, membership);
+        return membership;
     }
 
-    @Transactional(readOnly = true)
     public List<ChatMessageResponse> listRecentMessages(Long companyId, int limit, Long currentUserId) {
         int maxFetch = Math.max(1, appProperties.getChat().getRecentFetchMax());
         int boundedLimit = Math.max(1, Math.min(limit, maxFetch));
-        Set<Long> blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
-        List<ChatMessage> recent = chatMessageRepository.findByCompanyCompanyIdOrderByCreatedAtDesc(
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        List<ChatMessageResponse> recent = chatRecentMessageCache.recent(companyId);
+
+        // 최신 메시지부터 차단 사용자를 걸러 limit 만큼 고른 뒤 시간순으로 돌려준다
+        List<ChatMessageResponse> selected = new ArrayList<>(Math.min(boundedLimit, recent.size()));
+        for (int i = recent.size() - 1; i >= 0 && selected.size() < boundedLimit; i--) {
+            ChatMessageResponse message = recent.get(i);
+            if (!isBlockedSender(message, blockedUserIds)) {
+                selected.add(message);
+            }
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
+
+    // (beforeAt, before) 보다 오래된 메시지를 limit 건씩. 차단 사용자 메시지는 빠지므로 limit 보다 적을 수 있다
+    public ChatHistoryResponse listMessagesBefore(Long companyId,
+                                                  Long beforeMessageId,
+                                                  LocalDateTime beforeAt,
+                                                  int limit,
+                                                  Long currentUserId) {
+        if (companyId == null || beforeMessageId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid request");
+        }
+        int maxFetch = Math.max(1, appProperties.getChat().getRecentFetchMax());
+        int boundedLimit = Math.max(1, Math.min(limit, maxFetch));
+        LocalDateTime cursorAt = chatMessageRepository.findCursor(beforeMessageId)
+            .filter(found -> companyId.equals(found.getCompanyId()))
+            .map(ChatMessageRepository.ChatMessageCursor::getCreatedAt)
+            // write-behind 로 아직 저장 전인 메시지: 응답의 시각을 쓴다. DATETIME 은 초 단위라 올림해서 비교
+            .orElseGet(() -> beforeAt == null ? null : ceilToSecond(beforeAt));
+        if (cursorAt == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+
+        List<ChatMessageRepository.ChatMessageRow> rows = chatMessageRepository.findRowsBefore(
             companyId,
-            PageRequest.of(0, maxFetch)
+            cursorAt,
+            beforeMessageId,
+            PageRequest.of(0, boundedLimit + 1)
+        );
+        boolean hasMore = rows.size() > boundedLimit;
+        List<ChatMessageRepository.ChatMessageRow> page = hasMore ? rows.subList(0, boundedLimit) : rows;
+
+        LongSet blockedUserIds = userBlockService.findBlockedUserIds(currentUserId);
+        List<ChatMessageResponse> messages = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            ChatMessageRepository.ChatMessageRow row = page.get(i);
+            if (row.getSenderUserId() != null && blockedUserIds.contains(row.getSenderUserId())) {
+                continue;
+            }
+            String text = profanityMasker.isCurrentVersion(row.getMaskVersion())
+                ? row.getMessage()
+                : profanityMasker.mask(row.getMessage());
+            messages.add(new ChatMessageResponse(
+                row.getMessageId(),
+                row.getCompanyId(),
+                row.getSenderUserId(),
+                row.getSenderNickname(),
+                text,
+                row.getCreatedAt()
+            ));
+        }
+        ChatMessageRepository.ChatMessageRow oldest = hasMore ? page.get(page.size() - 1) : null;
+        return new ChatHistoryResponse(
+            messages,
+            oldest == null ? null : oldest.getMessageId(),
+            oldest == null ? null : oldest.getCreatedAt()
         );
-        return recent.stream()
-            .filter(message -> !isBlockedSender(message, blockedUserIds))
-            .limit(boundedLimit)
-            .sorted(Comparator.comparing(ChatMessage::getCreatedAt))
-            .map(m -> new ChatMessageResponse(
-                m.getCompany().getCompanyId(),
-                m.getMember() == null || m.getMember().getUser() == null ? null : m.getMember().getUser().getId(),
-                m.getSenderNickname(),
-                profanityMasker.mask(m.getMessage()),
-                m.getCreatedAt()
-            ))
-            .toList();
     }
 
-    private boolean isBlockedSender(ChatMessage message, Set<Long> blockedUserIds) {
+    private static LocalDateTime ceilToSecond(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.SECONDS);
+        return truncated.equals(time) ? time : truncated.plusSeconds(1);
+    }
+
+    private boolean isBlockedSender(ChatMessageResponse message, LongSet blockedUserIds) {
         if (message == null || blockedUserIds == null || blockedUserIds.isEmpty()) {
             return false;
         }
-        ChatRoomMember member = message.getMember();
-        User sender = member == null ? null : member.getUser();
-        Long senderId = sender == null ? null : sender.getId();
+        Long senderId = message.senderUserId();
         return senderId != null && blockedUserIds.contains(senderId);
     }
 
@@ -122,15 +240,58 @@ public class ChatService {
                 ChatRoomMember created = new ChatRoomMember();
                 created.setCompany(company);
                 created.setUser(user);
-                created.setNickname(allocateRoomNickname(company.getCompanyId()));
-                return chatRoomMemberRepository.save(created);
+                try {
+                    return saveWithRoomNickname(created, company.getCompanyId());
+                } catch (ResponseStatusException ex) {
+                    // 같은 사용자의 멤버가 동시에 만들어진 경우에는 그 멤버를 쓴다
+                    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                        throw ex;
+                    }
+                    return chatRoomMemberRepository.findByCompanyCompanyIdAndUserId(company.getCompanyId(), user.getId())
+                        .orElseThrow(() -> ex);
+                }
             });
     }
 
+    // 다른 인스턴스가 먼저 가져간 닉네임과 겹치면 다음 빈 닉네임으로 다시 시도한다. 유니크 인덱스가 최종 방어선
+    private ChatRoomMember saveWithRoomNickname(ChatRoomMember member, Long companyId) {
+        // 트랜잭션 안에서 flush 가 실패하면 그 트랜잭션은 되살릴 수 없으므로 저장 전 확인까지만 재시도한다
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            String nickname = allocateRoomNickname(companyId);
+            if (chatRoomMemberRepository.existsByCompanyCompanyIdAndNickname(companyId, nickname)) {
+                // 이미 DB 에 있는 닉네임이므로 풀에서는 점유로 남겨 둔다
+                if (attempt >= NICKNAME_ATTEMPTS) {
+                    throw nicknameConflict();
+                }
+                continue;
+            }
+            member.setNickname(nickname);
+            try {
+                return chatRoomMemberRepository.saveAndFlush(member);
+            } catch (DataIntegrityViolationException ex) {
+                if (inTransaction) {
+                    // 롤백 시 afterRollback 으로 반환된다
+                    throw nicknameConflict();
+                }
+                if (!chatRoomMemberRepository.existsByCompanyCompanyIdAndNickname(companyId, nickname)) {
+                    chatNicknamePool.release(companyId, nickname);
+                }
+                if (attempt >= NICKNAME_ATTEMPTS) {
+                    throw nicknameConflict();
+                }
+            }
+        }
+    }
+
     private String allocateRoomNickname(Long companyId) {
-        return nicknameGenerator.generateUnique(
-            candidate -> chatRoomMemberRepository.existsByCompanyCompanyIdAndNickname(companyId, candidate)
-        );
+        String nickname = chatNicknamePool.allocate(companyId);
+        TransactionCallbacks.afterRollback(() -> chatNicknamePool.release(companyId, nickname));
+        return nickname;
+    }
+
+    private ResponseStatusException nicknameConflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Chat nickname conflict, please retry");
     }
 
     private String normalizeMessage(String raw) {
@@ -0,0 +1,54 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.entity.Company;
+import com.whennawa.repository.CompanyRepository;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.stereotype.Component;
+
+// 회사명 -> 활성 회사 id 캐시. 못 찾은 이름은 캐시하지 않는다(이후 등록될 수 있으므로)
+// 회사 비활성화/이름 변경은 코드 밖(DB)에서 일어나므로 TTL 이 지나면 다시 조회한다
+@Component
+public class CompanyIdCache {
+    private final CompanyRepository companyRepository;
+    private final AppProperties appProperties;
+    private final ConcurrentMap<String, CachedId> companyIdByName = new ConcurrentHashMap<>();
+
+    public CompanyIdCache(CompanyRepository companyRepository, AppProperties appProperties) {
+        this.companyRepository = companyRepository;
+        this.appProperties = appProperties;
+    }
+
+    public Long resolve(String companyName) {
+        if (companyName == null || companyName.isBlank()) {
+            return null;
+        }
+        String key = companyName.trim();
+        CachedId cached = companyIdByName.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached.companyId();
+            }
+            companyIdByName.remove(key, cached);
+        }
+        Long companyId = companyRepository.findByCompanyNameIgnoreCaseAndIsActiveTrue(key)
+            .map(Company::getCompanyId)
+            .orElse(null);
+        if (companyId != null) {
+            remember(key, companyId);
+        }
+        return companyId;
+    }
+
+    public void remember(String companyName, Long companyId) {
+        if (companyName == null || companyName.isBlank() || companyId == null) {
+            return;
+        }
+        long ttlMillis = Math.max(0L, appProperties.getHome().getCompanyIdCacheTtlSeconds()) * 1000L;
+        companyIdByName.put(companyName.trim(), new CachedId(companyId, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private record CachedId(Long companyId, long expiresAtMillis) {
+    }
+}
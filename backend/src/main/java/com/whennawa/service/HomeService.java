@@ -3,22 +3,18 @@ package com.whennawa.service;
 import com.whennawa.dto.home.HomeHotCompanyItem;
 import com.whennawa.dto.home.HomeLatestReportItem;
 import com.whennawa.dto.interview.InterviewReviewItem;
-import com.whennawa.entity.Company;
 import com.whennawa.entity.InterviewReview;
 import com.whennawa.entity.RecruitmentStepLog;
 import com.whennawa.entity.RollingStepLog;
 import com.whennawa.entity.enums.InterviewDifficulty;
 import com.whennawa.entity.enums.RecruitmentMode;
-import com.whennawa.repository.CompanyRepository;
 import com.whennawa.repository.InterviewReviewRepository;
 import com.whennawa.repository.RecruitmentStepLogRepository;
 import com.whennawa.repository.RollingStepLogRepository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -26,17 +22,23 @@ import org.springframework.stereotype.Service;
 public class HomeService {
     private final RecruitmentStepLogRepository recruitmentStepLogRepository;
     private final RollingStepLogRepository rollingStepLogRepository;
-    private final CompanyRepository companyRepository;
     private final InterviewReviewRepository interviewReviewRepository;
+    private final HotCompanyRanking hotCompanyRanking;
+    private final CompanyIdCache companyIdCache;
+    private final LikeCounterService likeCounterService;
 
     public HomeService(RecruitmentStepLogRepository recruitmentStepLogRepository,
                        RollingStepLogRepository rollingStepLogRepository,
-                       CompanyRepository companyRepository,
-                       InterviewReviewRepository interviewReviewRepository) {
+                       InterviewReviewRepository interviewReviewRepository,
+                       HotCompanyRanking hotCompanyRanking,
+                       CompanyIdCache companyIdCache,
+                       LikeCounterService likeCounterService) {
         this.recruitmentStepLogRepository = recruitmentStepLogRepository;
         this.rollingStepLogRepository = rollingStepLogRepository;
-        this.companyRepository = companyRepository;
         this.interviewReviewRepository = interviewReviewRepository;
+        this.hotCompanyRanking = hotCompanyRanking;
+        this.companyIdCache = companyIdCache;
+        this.likeCounterService = likeCounterService;
     }
 
     public List<HomeLatestReportItem> listLatestReports(Integer limit) {
@@ -65,24 +67,7 @@ public class HomeService {
 
     public List<HomeHotCompanyItem> listHotCompanies(Integer limit) {
         int safeLimit = limit == null ? 3 : Math.max(1, Math.min(limit, 10));
-        Map<String, HotCompanyAggregate> aggregates = new HashMap<>();
-
-        for (RecruitmentStepLog log : recruitmentStepLogRepository.findAllForHotCompanies()) {
-            mergeHotCompany(aggregates, log.getCompanyName(), log.getStepName(), log.getUpdatedAt(), log.getReportCount());
-        }
-        for (RollingStepLog log : rollingStepLogRepository.findAllForHotCompanies()) {
-            mergeHotCompany(aggregates, log.getCompanyName(), log.getStepName(), log.getUpdatedAt(), log.getReportCount());
-        }
-
-        return aggregates.values().stream()
-            .sorted(
-                Comparator.comparingInt(HotCompanyAggregate::activityCount).reversed()
-                    .thenComparing(HotCompanyAggregate::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-                    .thenComparing(HotCompanyAggregate::companyName, String.CASE_INSENSITIVE_ORDER)
-            )
-            .limit(safeLimit)
-            .map(item -> new HomeHotCompanyItem(item.companyId(), item.companyName(), item.latestStepName(), item.activityCount(), item.updatedAt()))
-            .toList();
+        return hotCompanyRanking.top(safeLimit);
     }
 
     public List<InterviewReviewItem> listLatestInterviewReviews(Integer limit) {
@@ -128,7 +113,8 @@ public class HomeService {
             return null;
         }
         InterviewDifficulty difficulty = review.getDifficulty() == null ? InterviewDifficulty.MEDIUM : review.getDifficulty();
-        Integer likeCount = review.getLikeCount();
+        int likeCount = likeCounterService.currentCount(
+            LikeCounterService.LikeTarget.INTERVIEW_REVIEW, review.getReviewId(), review.getLikeCount());
         return new InterviewReviewItem(
             review.getReviewId(),
             review.getCompany().getCompanyId(),
@@ -137,7 +123,7 @@ public class HomeService {
             review.getStepName(),
             difficulty,
             review.getContent(),
-            likeCount == null ? 0 : Math.max(0, likeCount),
+            likeCount,
             false,
             fallbackUpdatedAt(review.getUpdatedAt(), review.getCreatedAt())
         );
@@ -147,50 +133,7 @@ public class HomeService {
         return value == null || value.trim().isEmpty();
     }
 
-    private void mergeHotCompany(Map<String, HotCompanyAggregate> aggregates,
-                                 String companyName,
-                                 String stepName,
-                                 LocalDateTime updatedAt,
-                                 Integer reportCount) {
-        if (isBlank(companyName) || isBlank(stepName)) {
-            return;
-        }
-
-        String key = companyName.trim();
-        int increment = reportCount == null ? 1 : Math.max(reportCount, 1);
-        HotCompanyAggregate current = aggregates.get(key);
-        if (current == null) {
-            aggregates.put(key, new HotCompanyAggregate(resolveCompanyId(key), key, stepName.trim(), increment, updatedAt));
-            return;
-        }
-
-        String latestStepName = current.latestStepName();
-        LocalDateTime latestUpdatedAt = current.updatedAt();
-        if (latestUpdatedAt == null || (updatedAt != null && updatedAt.isAfter(latestUpdatedAt))) {
-            latestStepName = stepName.trim();
-            latestUpdatedAt = updatedAt;
-        }
-
-        aggregates.put(
-            key,
-            new HotCompanyAggregate(current.companyId(), key, latestStepName, current.activityCount() + increment, latestUpdatedAt)
-        );
-    }
-
     private Long resolveCompanyId(String companyName) {
-        if (isBlank(companyName)) {
-            return null;
-        }
-        Company company = companyRepository.findByCompanyNameIgnoreCaseAndIsActiveTrue(companyName.trim()).orElse(null);
-        return company == null ? null : company.getCompanyId();
-    }
-
-    private record HotCompanyAggregate(
-        Long companyId,
-        String companyName,
-        String latestStepName,
-        int activityCount,
-        LocalDateTime updatedAt
-    ) {
+        return companyIdCache.resolve(companyName);
     }
 }
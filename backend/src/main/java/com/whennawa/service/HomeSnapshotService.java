@@ -0,0 +1,125 @@
+package com.whennawa.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.home.HomeSnapshotResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds the home page data as a pre-serialized JSON snapshot with an ETag.
+ * Rebuilt at most once per TTL (or after a report is processed); only one thread rebuilds at a time
+ * and other requests keep serving the previous snapshot meanwhile.
+ */
+@Slf4j
+@Service
+public class HomeSnapshotService {
+    public static final int SNAPSHOT_ITEM_LIMIT = 10;
+
+    private final HomeService homeService;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile HomeSnapshot snapshot;
+    private volatile boolean stale;
+
+    public HomeSnapshotService(HomeService homeService, ObjectMapper objectMapper, AppProperties appProperties) {
+        this.homeService = homeService;
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+    }
+
+    public HomeSnapshot current() {
+        HomeSnapshot current = snapshot;
+        if (current != null && isFresh(current)) {
+            return current;
+        }
+        if (current != null) {
+            // 다른 스레드가 재생성 중이면 기다리지 않고 이전 스냅샷을 돌려준다
+            if (rebuildLock.tryLock()) {
+                try {
+                    if (!isFresh(snapshot)) {
+                        rebuild();
+                    }
+                } finally {
+                    rebuildLock.unlock();
+                }
+            }
+            return snapshot;
+        }
+        rebuildLock.lock();
+        try {
+            if (snapshot == null || !isFresh(snapshot)) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportProcessed(ReportProcessedEvent event) {
+        invalidate();
+    }
+
+    private boolean isFresh(HomeSnapshot candidate) {
+        if (candidate == null || stale) {
+            return false;
+        }
+        long ttlMillis = Math.max(appProperties.getHome().getSnapshotTtlSeconds(), 1L) * 1000L;
+        return System.currentTimeMillis() - candidate.builtAtMillis() < ttlMillis;
+    }
+
+    private void rebuild() {
+        stale = false;
+        try {
+            HomeSnapshotResponse data = new HomeSnapshotResponse(
+                homeService.listLatestReports(SNAPSHOT_ITEM_LIMIT),
+                homeService.listHotCompanies(SNAPSHOT_ITEM_LIMIT),
+                homeService.listLatestInterviewReviews(SNAPSHOT_ITEM_LIMIT),
+                LocalDateTime.now()
+            );
+            byte[] json = objectMapper.writeValueAsBytes(data);
+            snapshot = new HomeSnapshot(data, json, computeEtag(data), System.currentTimeMillis());
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // 실패하면 다음 요청에서 다시 시도, 이전 스냅샷이 있으면 그대로 사용
+            stale = true;
+            if (snapshot == null) {
+                throw ex instanceof RuntimeException runtime ? runtime : new IllegalStateException(ex);
+            }
+            log.warn("Failed to rebuild home snapshot, serving previous one: {}", ex.getMessage());
+        }
+    }
+
+    private String computeEtag(HomeSnapshotResponse data) throws JsonProcessingException {
+        // generatedAt 을 제외한 내용만으로 계산해야 데이터가 같으면 ETag 도 같다
+        byte[] content = objectMapper.writeValueAsBytes(List.of(
+            data.getLatestReports(),
+            data.getHotCompanies(),
+            data.getLatestInterviewReviews()
+        ));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record HomeSnapshot(HomeSnapshotResponse data, byte[] json, String etag, long builtAtMillis) {
+    }
+}
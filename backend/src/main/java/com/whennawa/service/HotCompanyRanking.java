@@ -0,0 +1,253 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.home.HomeHotCompanyItem;
+import com.whennawa.repository.HotCompanyActivityRow;
+import com.whennawa.repository.RecruitmentStepLogRepository;
+import com.whennawa.repository.RollingStepLogRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory hot company ranking.
+ * Activity is bucketed per hour and decays exponentially with the configured half-life.
+ * Scores are kept in "forward decay" form (weight grows with time instead of old weights shrinking),
+ * so an update only touches one company and the top-k heap stays valid.
+ * Company ids are resolved for the published list outside the lock, since a cache miss queries the database.
+ */
+@Slf4j
+@Component
+public class HotCompanyRanking {
+    private static final long SECONDS_PER_HOUR = 3600L;
+    // e^40 이상으로 커지기 전에 기준 시각을 옮겨 double 범위를 유지한다
+    private static final double REBASE_EXPONENT = 40.0;
+    private static final double MIN_RETAINED_SCORE = 1e-6;
+    private static final Comparator<CompanyActivity> RANK_ORDER = Comparator
+        .comparingDouble(CompanyActivity::score)
+        .thenComparing(CompanyActivity::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(CompanyActivity::companyName, String.CASE_INSENSITIVE_ORDER.reversed());
+
+    private final RecruitmentStepLogRepository recruitmentStepLogRepository;
+    private final RollingStepLogRepository rollingStepLogRepository;
+    private final CompanyIdCache companyIdCache;
+    private final AppProperties appProperties;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final Map<String, CompanyActivity> activityByName = new HashMap<>();
+    private final PriorityQueue<CompanyActivity> topHeap = new PriorityQueue<>(RANK_ORDER);
+    private long baseHour;
+    private long snapshotSequence;
+    private long publishedSequence;
+    private volatile List<HomeHotCompanyItem> ranked = List.of();
+
+    public HotCompanyRanking(RecruitmentStepLogRepository recruitmentStepLogRepository,
+                             RollingStepLogRepository rollingStepLogRepository,
+                             CompanyIdCache companyIdCache,
+                             AppProperties appProperties) {
+        this.recruitmentStepLogRepository = recruitmentStepLogRepository;
+        this.rollingStepLogRepository = rollingStepLogRepository;
+        this.companyIdCache = companyIdCache;
+        this.appProperties = appProperties;
+    }
+
+    public List<HomeHotCompanyItem> top(int limit) {
+        List<HomeHotCompanyItem> current = ranked;
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        AppProperties.Home home = appProperties.getHome();
+        LocalDateTime since = LocalDateTime.now().minusDays(Math.max(home.getHotWindowDays(), 1));
+        List<HotCompanyActivityRow> rows = new ArrayList<>(recruitmentStepLogRepository.findHotCompanyActivitySince(since));
+        rows.addAll(rollingStepLogRepository.findHotCompanyActivitySince(since));
+
+        RankSnapshot snapshot;
+        synchronized (this) {
+            activityByName.clear();
+            topHeap.clear();
+            baseHour = toHour(LocalDateTime.now());
+            for (HotCompanyActivityRow row : rows) {
+                apply(row.getCompanyId(), row.getCompanyName(), row.getStepName(), row.getReportCount(), row.getUpdatedAt());
+            }
+            snapshot = snapshot();
+        }
+        publish(snapshot);
+        log.info("Hot company ranking seeded from {} step logs since {}", rows.size(), since);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportProcessed(ReportProcessedEvent event) {
+        record(event.companyId(), event.companyName(), event.stepName(), event.reportCount(), event.processedAt());
+    }
+
+    public void record(Long companyId,
+                       String companyName,
+                       String stepName,
+                       Integer reportCount,
+                       LocalDateTime at) {
+        RankSnapshot snapshot;
+        synchronized (this) {
+            if (!apply(companyId, companyName, stepName, reportCount, at)) {
+                return;
+            }
+            snapshot = snapshot();
+        }
+        publish(snapshot);
+    }
+
+    private boolean apply(Long companyId, String companyName, String stepName, Integer reportCount, LocalDateTime at) {
+        if (isBlank(companyName) || isBlank(stepName)) {
+            return false;
+        }
+        LocalDateTime eventAt = at == null ? LocalDateTime.now() : at;
+        long eventHour = toHour(eventAt);
+        rebaseIfNeeded(eventHour);
+
+        String key = companyName.trim();
+        if (companyId != null) {
+            companyIdCache.remember(key, companyId);
+        }
+        CompanyActivity activity = activityByName.get(key);
+        if (activity == null) {
+            activity = new CompanyActivity(key);
+            activityByName.put(key, activity);
+        }
+        if (activity.inTop) {
+            // 힙 안에 있는 원소는 점수를 바꾸기 전에 빼야 순서가 깨지지 않는다
+            topHeap.remove(activity);
+            activity.inTop = false;
+        }
+
+        int increment = reportCount == null ? 1 : Math.max(reportCount, 1);
+        activity.score += increment * Math.exp(decayRate() * (eventHour - baseHour));
+        activity.activityCount += increment;
+        if (activity.updatedAt == null || !eventAt.isBefore(activity.updatedAt)) {
+            activity.updatedAt = eventAt;
+            activity.latestStepName = stepName.trim();
+        }
+        offer(activity);
+        return true;
+    }
+
+    private void offer(CompanyActivity activity) {
+        int capacity = Math.max(appProperties.getHome().getHotTopK(), 1);
+        if (topHeap.size() < capacity) {
+            topHeap.add(activity);
+            activity.inTop = true;
+            return;
+        }
+        CompanyActivity weakest = topHeap.peek();
+        if (weakest != null && RANK_ORDER.compare(activity, weakest) > 0) {
+            topHeap.poll();
+            weakest.inTop = false;
+            topHeap.add(activity);
+            activity.inTop = true;
+        }
+    }
+
+    private void rebaseIfNeeded(long eventHour) {
+        double exponent = decayRate() * (eventHour - baseHour);
+        if (exponent < REBASE_EXPONENT) {
+            return;
+        }
+        double factor = Math.exp(-exponent);
+        activityByName.values().removeIf(item -> {
+            item.score *= factor;
+            return item.score < MIN_RETAINED_SCORE;
+        });
+        baseHour = eventHour;
+        topHeap.clear();
+        for (CompanyActivity item : activityByName.values()) {
+            item.inTop = false;
+            offer(item);
+        }
+    }
+
+    // 락 안에서 현재 top-k 를 값으로 복사해 둔다
+    private RankSnapshot snapshot() {
+        List<CompanyActivity> ordered = new ArrayList<>(topHeap);
+        ordered.sort(RANK_ORDER.reversed());
+        List<RankedCompany> companies = new ArrayList<>(ordered.size());
+        for (CompanyActivity item : ordered) {
+            companies.add(new RankedCompany(item.companyName, item.latestStepName, item.activityCount, item.updatedAt));
+        }
+        return new RankSnapshot(++snapshotSequence, companies);
+    }
+
+    private void publish(RankSnapshot snapshot) {
+        List<HomeHotCompanyItem> items = new ArrayList<>(snapshot.companies().size());
+        for (RankedCompany company : snapshot.companies()) {
+            items.add(new HomeHotCompanyItem(
+                companyIdCache.resolve(company.companyName()),
+                company.companyName(),
+                company.latestStepName(),
+                company.activityCount(),
+                company.updatedAt()
+            ));
+        }
+        synchronized (this) {
+            // 늦게 끝난 이전 스냅샷이 최신 순위를 덮지 않게 한다
+            if (snapshot.sequence() > publishedSequence) {
+                publishedSequence = snapshot.sequence();
+                ranked = List.copyOf(items);
+            }
+        }
+    }
+
+    private double decayRate() {
+        double halfLifeHours = Math.max(appProperties.getHome().getHotHalfLifeHours(), 1.0);
+        return Math.log(2) / halfLifeHours;
+    }
+
+    private long toHour(LocalDateTime value) {
+        return value.atZone(zoneId).toEpochSecond() / SECONDS_PER_HOUR;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private record RankSnapshot(long sequence, List<RankedCompany> companies) {
+    }
+
+    private record RankedCompany(String companyName, String latestStepName, int activityCount, LocalDateTime updatedAt) {
+    }
+
+    private static final class CompanyActivity {
+        private final String companyName;
+        private String latestStepName;
+        private int activityCount;
+        private LocalDateTime updatedAt;
+        private double score;
+        private boolean inTop;
+
+        private CompanyActivity(String companyName) {
+            this.companyName = companyName;
+        }
+
+        private double score() {
+            return score;
+        }
+
+        private LocalDateTime updatedAt() {
+            return updatedAt;
+        }
+
+        private String companyName() {
+            return companyName;
+        }
+    }
+}
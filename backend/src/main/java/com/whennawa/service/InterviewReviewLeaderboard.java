@@ -0,0 +1,191 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.entity.InterviewReview;
+import com.whennawa.repository.InterviewReviewRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-company ranking of active interview reviews by likes (like count desc, review id desc).
+ * Each company keeps a small sorted array holding exactly the top entries; reviews outside it rank below
+ * its last entry. Like, unlike, create and deactivate adjust the array in place. A company is reloaded
+ * from the like index when removals leave too few entries to answer the largest page, and after the
+ * configured TTL so changes made through other instances show up.
+ */
+@Component
+public class InterviewReviewLeaderboard {
+    // 첫 페이지 최대 크기(50) + hasNext 확인용 1건
+    static final int MIN_ENTRIES = 51;
+    private static final int CAPACITY = 64;
+
+    private final InterviewReviewRepository interviewReviewRepository;
+    private final LikeCounterService likeCounterService;
+    private final long ttlMillis;
+    private final ConcurrentMap<Long, Ranking> rankingsByCompany = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    public InterviewReviewLeaderboard(InterviewReviewRepository interviewReviewRepository,
+                                      LikeCounterService likeCounterService,
+                                      AppProperties appProperties) {
+        this.interviewReviewRepository = interviewReviewRepository;
+        this.likeCounterService = likeCounterService;
+        this.ttlMillis = Math.max(1L, appProperties.getReview().getLeaderboardTtlSeconds()) * 1000L;
+    }
+
+    // 좋아요 순 상위 review id. limit 은 MIN_ENTRIES 이하
+    public List<Long> topReviewIds(Long companyId, int limit) {
+        int bounded = Math.max(1, Math.min(limit, MIN_ENTRIES));
+        Ranking ranking = rankingsByCompany.get(companyId);
+        if (ranking != null && System.currentTimeMillis() - ranking.loadedAtMillis < ttlMillis) {
+            List<Long> ids = ranking.top(bounded);
+            if (ids != null) {
+                return ids;
+            }
+        }
+        return load(companyId).top(bounded);
+    }
+
+    public void changed(Long companyId, Long reviewId, int likeCount) {
+        if (companyId == null || reviewId == null) {
+            return;
+        }
+        changes.incrementAndGet();
+        Ranking ranking = rankingsByCompany.get(companyId);
+        if (ranking != null && !ranking.place(reviewId, likeCount)) {
+            rankingsByCompany.remove(companyId, ranking);
+        }
+    }
+
+    public void removed(Long companyId, Long reviewId) {
+        if (companyId == null || reviewId == null) {
+            return;
+        }
+        changes.incrementAndGet();
+        Ranking ranking = rankingsByCompany.get(companyId);
+        if (ranking != null && !ranking.remove(reviewId)) {
+            rankingsByCompany.remove(companyId, ranking);
+        }
+    }
+
+    private Ranking load(Long companyId) {
+        long generation = changes.get();
+        List<InterviewReview> rows = interviewReviewRepository.findLikedSlice(
+            companyId, null, null, PageRequest.of(0, CAPACITY));
+        long[] entries = new long[rows.size() * 2];
+        for (int i = 0; i < rows.size(); i++) {
+            InterviewReview review = rows.get(i);
+            entries[i * 2] = likeCounterService.currentCount(
+                LikeCounterService.LikeTarget.INTERVIEW_REVIEW, review.getReviewId(), review.getLikeCount());
+            entries[i * 2 + 1] = review.getReviewId();
+        }
+        Ranking ranking = new Ranking(entries, rows.size() < CAPACITY);
+        // 조회 중에 반영된 변경이 있으면 이번 결과만 쓰고 저장하지 않는다
+        if (changes.get() == generation) {
+            rankingsByCompany.put(companyId, ranking);
+        }
+        return ranking;
+    }
+
+    /**
+     * Sorted (likeCount, reviewId) pairs stored flat in one array. {@code complete} means the array holds
+     * every active review of the company.
+     */
+    private static final class Ranking {
+        private final long loadedAtMillis = System.currentTimeMillis();
+        private long[] entries;
+        private int size;
+        private boolean complete;
+
+        private Ranking(long[] unsorted, boolean complete) {
+            this.entries = new long[CAPACITY * 2];
+            this.complete = complete;
+            for (int i = 0; i + 1 < unsorted.length; i += 2) {
+                insert(unsorted[i], unsorted[i + 1]);
+            }
+        }
+
+        private synchronized List<Long> top(int limit) {
+            if (size < limit && !complete) {
+                return null;
+            }
+            int count = Math.min(limit, size);
+            Long[] ids = new Long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = entries[i * 2 + 1];
+            }
+            return Arrays.asList(ids);
+        }
+
+        // false 면 남은 항목으로는 순위를 보장할 수 없어 다시 읽어야 한다
+        private synchronized boolean place(long reviewId, long likeCount) {
+            int index = indexOf(reviewId);
+            if (index >= 0) {
+                long previous = entries[index * 2];
+                removeAt(index);
+                if (likeCount < previous && !complete && (size == 0 || !ranksAbove(likeCount, reviewId, size - 1))) {
+                    // 배열 밖 리뷰가 앞설 수 있으니 빼 둔다
+                    return size >= MIN_ENTRIES;
+                }
+                insert(likeCount, reviewId);
+                return true;
+            }
+            if (complete || size == 0 || ranksAbove(likeCount, reviewId, size - 1)) {
+                insert(likeCount, reviewId);
+            }
+            return true;
+        }
+
+        private synchronized boolean remove(long reviewId) {
+            int index = indexOf(reviewId);
+            if (index >= 0) {
+                removeAt(index);
+            }
+            return complete || size >= MIN_ENTRIES;
+        }
+
+        private boolean ranksAbove(long likeCount, long reviewId, int index) {
+            long otherCount = entries[index * 2];
+            return likeCount > otherCount || (likeCount == otherCount && reviewId > entries[index * 2 + 1]);
+        }
+
+        private void insert(long likeCount, long reviewId) {
+            int position = size;
+            while (position > 0 && ranksAbove(likeCount, reviewId, position - 1)) {
+                position--;
+            }
+            if (position >= CAPACITY) {
+                complete = false;
+                return;
+            }
+            if (size == CAPACITY) {
+                // 마지막 항목을 밀어낸다
+                size--;
+                complete = false;
+            }
+            System.arraycopy(entries, position * 2, entries, position * 2 + 2, (size - position) * 2);
+            entries[position * 2] = likeCount;
+            entries[position * 2 + 1] = reviewId;
+            size++;
+        }
+
+        private void removeAt(int index) {
+            System.arraycopy(entries, index * 2 + 2, entries, index * 2, (size - index - 1) * 2);
+            size--;
+        }
+
+        private int indexOf(long reviewId) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i * 2 + 1] == reviewId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.whennawa.service;
 
 import com.whennawa.dto.board.BoardPageResponse;
+import com.whennawa.dto.board.CursorPageResponse;
 import com.whennawa.dto.interview.InterviewReviewItem;
 import com.whennawa.dto.interview.InterviewReviewSort;
 import com.whennawa.entity.Company;
 import com.whennawa.entity.InterviewReview;
-import com.whennawa.entity.InterviewReviewLike;
 import com.whennawa.entity.RollingReport;
 import com.whennawa.entity.StepDateReport;
 import com.whennawa.entity.User;
@@ -16,13 +16,16 @@ import com.whennawa.repository.InterviewReviewLikeRepository;
 import com.whennawa.repository.InterviewReviewRepository;
 import com.whennawa.repository.UserRepository;
 import com.whennawa.util.CompanyNameNormalizer;
+import com.whennawa.util.PageCursor;
+import com.whennawa.util.TransactionCallbacks;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -42,6 +45,9 @@ public class InterviewReviewService {
     private final InterviewReviewRepository interviewReviewRepository;
     private final InterviewReviewLikeRepository interviewReviewLikeRepository;
     private final ProfanityMasker profanityMasker;
+    private final ApproximateCountCache approximateCountCache;
+    private final LikeCounterService likeCounterService;
+    private final InterviewReviewLeaderboard interviewReviewLeaderboard;
 
     @Transactional
     public void createForRegularReport(StepDateReport report,
@@ -64,6 +70,7 @@ public class InterviewReviewService {
         review.setActive(true);
         review.setLikeCount(0);
         interviewReviewRepository.save(review);
+        rankCreated(review);
     }
 
     @Transactional
@@ -78,6 +85,7 @@ public class InterviewReviewService {
         }
         InterviewReview review = interviewReviewRepository.findByReportReportIdAndIsActiveTrue(report.getReportId())
             .orElseGet(InterviewReview::new);
+        Long previousCompanyId = review.getCompany() == null ? null : review.getCompany().getCompanyId();
         review.setCompany(report.getCompany());
         review.setUser(resolveOptionalUser(userId));
         review.setReport(report);
@@ -90,7 +98,9 @@ public class InterviewReviewService {
         if (review.getLikeCount() == null) {
             review.setLikeCount(0);
         }
+        boolean created = review.getReviewId() == null;
         interviewReviewRepository.save(review);
+        rankSaved(review, created, previousCompanyId);
     }
 
     @Transactional
@@ -114,6 +124,7 @@ public class InterviewReviewService {
         review.setActive(true);
         review.setLikeCount(0);
         interviewReviewRepository.save(review);
+        rankCreated(review);
     }
 
     @Transactional
@@ -128,6 +139,7 @@ public class InterviewReviewService {
         }
         InterviewReview review = interviewReviewRepository.findByRollingReportReportIdAndIsActiveTrue(report.getReportId())
             .orElseGet(InterviewReview::new);
+        Long previousCompanyId = review.getCompany() == null ? null : review.getCompany().getCompanyId();
         review.setCompany(report.getCompany());
         review.setUser(resolveOptionalUser(userId));
         review.setReport(null);
@@ -140,7 +152,9 @@ public class InterviewReviewService {
         if (review.getLikeCount() == null) {
             review.setLikeCount(0);
         }
+        boolean created = review.getReviewId() == null;
         interviewReviewRepository.save(review);
+        rankSaved(review, created, previousCompanyId);
     }
 
     @Transactional
@@ -148,7 +162,7 @@ public class InterviewReviewService {
         if (reportId == null) {
             return;
         }
-        interviewReviewRepository.findByReportReportIdAndIsActiveTrue(reportId).ifPresent(review -> review.setActive(false));
+        interviewReviewRepository.findByReportReportIdAndIsActiveTrue(reportId).ifPresent(this::deactivate);
     }
 
     @Transactional
@@ -156,13 +170,17 @@ public class InterviewReviewService {
         if (reportId == null) {
             return;
         }
-        interviewReviewRepository.findByRollingReportReportIdAndIsActiveTrue(reportId).ifPresent(review -> review.setActive(false));
+        interviewReviewRepository.findByRollingReportReportIdAndIsActiveTrue(reportId).ifPresent(this::deactivate);
     }
 
     @Transactional(readOnly = true)
     public List<InterviewReviewItem> listTop(String companyName, int limit, InterviewReviewSort sort, Long currentUserId) {
         Company company = resolveCompany(companyName);
         int boundedLimit = Math.max(1, Math.min(limit, 10));
+        if (isLikesSort(sort)) {
+            List<Long> reviewIds = interviewReviewLeaderboard.topReviewIds(company.getCompanyId(), boundedLimit);
+            return toItems(findActiveInOrder(company.getCompanyId(), reviewIds), currentUserId);
+        }
         Page<InterviewReview> page = interviewReviewRepository.findByCompanyCompanyIdAndIsActiveTrue(
             company.getCompanyId(),
             PageRequest.of(0, boundedLimit, resolveSort(sort))
@@ -194,6 +212,19 @@ public class InterviewReviewService {
         int boundedPage = Math.max(0, page == null ? 0 : page);
         int boundedSize = clampPageSize(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
         String normalizedStepName = normalizeOptionalStepName(stepName);
+        if (boundedPage == 0 && recruitmentMode == null && normalizedStepName == null
+            && isLikesSort(sort) && boundedSize < InterviewReviewLeaderboard.MIN_ENTRIES) {
+            List<Long> reviewIds = interviewReviewLeaderboard.topReviewIds(company.getCompanyId(), boundedSize);
+            long total = interviewReviewRepository.countActive(company.getCompanyId(), null, null);
+            return new BoardPageResponse<>(
+                toItems(findActiveInOrder(company.getCompanyId(), reviewIds), currentUserId),
+                0,
+                boundedSize,
+                total > boundedSize,
+                (int) ((total + boundedSize - 1) / boundedSize),
+                total
+            );
+        }
         Page<InterviewReview> result;
         if (recruitmentMode == null && normalizedStepName == null) {
             result = interviewReviewRepository.findByCompanyCompanyIdAndIsActiveTrue(
@@ -230,29 +261,69 @@ public class InterviewReviewService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<InterviewReviewItem> listPageByCursor(String companyName,
+                                                                    String cursor,
+                                                                    Integer size,
+                                                                    RecruitmentMode recruitmentMode,
+                                                                    String stepName,
+                                                                    InterviewReviewSort sort,
+                                                                    Long currentUserId) {
+        Company company = resolveCompany(companyName);
+        Long companyId = company.getCompanyId();
+        int boundedSize = clampPageSize(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        String normalizedStepName = normalizeOptionalStepName(stepName);
+        boolean latest = sort == InterviewReviewSort.LATEST;
+        PageRequest pageable = PageRequest.of(0, boundedSize + 1);
+
+        List<InterviewReview> rows;
+        if ((cursor == null || cursor.isBlank()) && !latest && recruitmentMode == null && normalizedStepName == null) {
+            // 필터 없는 좋아요순 첫 페이지는 메모리 순위에서 바로 꺼낸다
+            rows = findActiveInOrder(companyId, interviewReviewLeaderboard.topReviewIds(companyId, boundedSize + 1));
+        } else if (cursor == null || cursor.isBlank()) {
+            rows = latest
+                ? interviewReviewRepository.findLatestSlice(companyId, recruitmentMode, normalizedStepName, pageable)
+                : interviewReviewRepository.findLikedSlice(companyId, recruitmentMode, normalizedStepName, pageable);
+        } else {
+            // 정렬 기준이 바뀐 커서는 decode 단계에서 400
+            if (latest) {
+                PageCursor after = PageCursor.decodeTimed(cursor);
+                rows = interviewReviewRepository.findLatestSliceBefore(
+                    companyId, recruitmentMode, normalizedStepName, after.createdAt(), after.id(), pageable);
+            } else {
+                PageCursor after = PageCursor.decodeCounted(cursor);
+                rows = interviewReviewRepository.findLikedSliceBefore(
+                    companyId, recruitmentMode, normalizedStepName, (int) after.count(), after.id(), pageable);
+            }
+        }
+        boolean hasNext = rows.size() > boundedSize;
+        List<InterviewReview> slice = hasNext ? rows.subList(0, boundedSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            InterviewReview last = slice.get(slice.size() - 1);
+            nextCursor = latest
+                ? PageCursor.of(last.getCreatedAt(), last.getReviewId()).encode()
+                : PageCursor.of(last.getLikeCount() == null ? 0 : last.getLikeCount(), last.getReviewId()).encode();
+        }
+        long approximateTotal = approximateCountCache.get(
+            "review:" + companyId + ":" + recruitmentMode + ":" + normalizedStepName,
+            () -> interviewReviewRepository.countActive(companyId, recruitmentMode, normalizedStepName)
+        );
+        return new CursorPageResponse<>(toItems(slice, currentUserId), nextCursor, hasNext, approximateTotal);
+    }
+
     @Transactional
     public InterviewReviewItem like(Long reviewId, Long userId) {
         User user = resolveUser(userId);
         InterviewReview review = resolveReview(reviewId);
-        if (interviewReviewLikeRepository.existsByReviewReviewIdAndUser_Id(reviewId, user.getId())) {
-            long deleted = interviewReviewLikeRepository.deleteByReviewReviewIdAndUser_Id(reviewId, user.getId());
-            if (deleted > 0) {
-                int current = review.getLikeCount() == null ? 0 : review.getLikeCount();
-                review.setLikeCount(Math.max(0, current - 1));
-            }
+        // 토글: 이미 누른 좋아요면 취소한다
+        if (likeCounterService.unlike(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, reviewId, user.getId())) {
+            rankLikeChange(review);
             return toItem(review, Collections.emptySet());
         }
-
-        if (!interviewReviewLikeRepository.existsByReviewReviewIdAndUser_Id(reviewId, user.getId())) {
-            InterviewReviewLike like = new InterviewReviewLike();
-            like.setReview(review);
-            like.setUser(user);
-            try {
-                interviewReviewLikeRepository.save(like);
-                review.setLikeCount(Math.max(0, review.getLikeCount() == null ? 0 : review.getLikeCount()) + 1);
-            } catch (DataIntegrityViolationException ignored) {
-                // idempotent when request races
-            }
+        if (likeCounterService.like(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, reviewId, user.getId())) {
+            rankLikeChange(review);
         }
         return toItem(review, Set.of(review.getReviewId()));
     }
@@ -261,10 +332,8 @@ public class InterviewReviewService {
     public InterviewReviewItem unlike(Long reviewId, Long userId) {
         User user = resolveUser(userId);
         InterviewReview review = resolveReview(reviewId);
-        long deleted = interviewReviewLikeRepository.deleteByReviewReviewIdAndUser_Id(reviewId, user.getId());
-        if (deleted > 0) {
-            int current = review.getLikeCount() == null ? 0 : review.getLikeCount();
-            review.setLikeCount(Math.max(0, current - 1));
+        if (likeCounterService.unlike(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, reviewId, user.getId())) {
+            rankLikeChange(review);
         }
         return toItem(review, Collections.emptySet());
     }
@@ -287,7 +356,8 @@ public class InterviewReviewService {
             return null;
         }
         Company company = review.getCompany();
-        int likeCount = Math.max(0, review.getLikeCount() == null ? 0 : review.getLikeCount());
+        int likeCount = likeCounterService.currentCount(
+            LikeCounterService.LikeTarget.INTERVIEW_REVIEW, review.getReviewId(), review.getLikeCount());
         boolean likedByMe = review.getReviewId() != null
             && likedReviewIds != null
             && likedReviewIds.contains(review.getReviewId());
@@ -387,11 +457,70 @@ public class InterviewReviewService {
     }
 
     private Sort resolveSort(InterviewReviewSort sort) {
-        InterviewReviewSort resolved = sort == null ? InterviewReviewSort.LIKES : sort;
-        if (resolved == InterviewReviewSort.LATEST) {
-            return Sort.by(Sort.Order.desc("createdAt"));
+        if (!isLikesSort(sort)) {
+            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("reviewId"));
         }
-        return Sort.by(Sort.Order.desc("likeCount"), Sort.Order.desc("createdAt"));
+        // 메모리 순위, keyset 목록과 같은 순서
+        return Sort.by(Sort.Order.desc("likeCount"), Sort.Order.desc("reviewId"));
+    }
+
+    private boolean isLikesSort(InterviewReviewSort sort) {
+        return sort == null || sort == InterviewReviewSort.LIKES;
+    }
+
+    // 순위가 갱신되기 전에 다른 회사로 옮겨진 리뷰는 뺀다
+    private List<InterviewReview> findActiveInOrder(Long companyId, List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, InterviewReview> reviewsById = interviewReviewRepository.findAllById(reviewIds).stream()
+            .filter(InterviewReview::isActive)
+            .filter(review -> review.getCompany() != null
+                && Objects.equals(review.getCompany().getCompanyId(), companyId))
+            .collect(Collectors.toMap(InterviewReview::getReviewId, review -> review));
+        return reviewIds.stream()
+            .map(reviewsById::get)
+            .filter(review -> review != null)
+            .toList();
+    }
+
+    private void rankCreated(InterviewReview review) {
+        Long companyId = review.getCompany().getCompanyId();
+        Long reviewId = review.getReviewId();
+        TransactionCallbacks.afterCommit(() -> interviewReviewLeaderboard.changed(companyId, reviewId, 0));
+    }
+
+    // 엔티티의 like_count 는 읽은 뒤 flush 로 바뀌었을 수 있어 커밋 뒤에 다시 읽는다
+    private void rankLikeChange(InterviewReview review) {
+        Long companyId = review.getCompany() == null ? null : review.getCompany().getCompanyId();
+        Long reviewId = review.getReviewId();
+        TransactionCallbacks.afterCommit(() -> interviewReviewLeaderboard.changed(companyId, reviewId,
+            likeCounterService.loadCount(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, reviewId)));
+    }
+
+    private void rankSaved(InterviewReview review, boolean created, Long previousCompanyId) {
+        if (created) {
+            rankCreated(review);
+            return;
+        }
+        Long companyId = review.getCompany().getCompanyId();
+        if (previousCompanyId == null || previousCompanyId.equals(companyId)) {
+            return;
+        }
+        // 제보의 회사가 바뀌면 리뷰도 옮겨 가므로 이전 회사 순위에서 빼고 새 회사 순위에 넣는다
+        Long reviewId = review.getReviewId();
+        TransactionCallbacks.afterCommit(() -> {
+            interviewReviewLeaderboard.removed(previousCompanyId, reviewId);
+            interviewReviewLeaderboard.changed(companyId, reviewId,
+                likeCounterService.loadCount(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, reviewId));
+        });
+    }
+
+    private void deactivate(InterviewReview review) {
+        review.setActive(false);
+        Long companyId = review.getCompany() == null ? null : review.getCompany().getCompanyId();
+        Long reviewId = review.getReviewId();
+        TransactionCallbacks.afterCommit(() -> interviewReviewLeaderboard.removed(companyId, reviewId));
     }
 
     private int clampPageSize(Integer rawSize, int defaultSize, int maxSize) {
@@ -0,0 +1,131 @@
+package com.whennawa.service;
+
+import com.whennawa.util.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Like rows and like_count for comments and interview reviews.
+ * Like rows are written idempotently in the caller's transaction; count changes are kept as per-row deltas
+ * flushed by {@link WriteBehindCounter} as atomic {@code like_count = like_count + ?} batches, so concurrent
+ * clicks never read-modify-write the counted row. {@link #currentCount} adds deltas that are not flushed yet.
+ */
+@Component
+public class LikeCounterService implements SmartLifecycle {
+    public enum LikeTarget {
+        BOARD_COMMENT("board_comment", "board_comment_like", "comment_id"),
+        CAREER_BOARD_COMMENT("career_board_comment", "career_board_comment_like", "comment_id"),
+        INTERVIEW_REVIEW("interview_review", "interview_review_like", "review_id");
+
+        private final String insertSql;
+        private final String deleteSql;
+        private final String updateCountSql;
+        private final String selectCountSql;
+
+        LikeTarget(String table, String likeTable, String idColumn) {
+            this.insertSql = "INSERT INTO " + likeTable + " (" + idColumn + ", user_id, created_at, updated_at) "
+                + "SELECT ?, ?, ?, ? FROM DUAL WHERE NOT EXISTS "
+                + "(SELECT 1 FROM " + likeTable + " WHERE " + idColumn + " = ? AND user_id = ?)";
+            this.deleteSql = "DELETE FROM " + likeTable + " WHERE " + idColumn + " = ? AND user_id = ?";
+            this.updateCountSql = "UPDATE " + table + " SET like_count = GREATEST(like_count + ?, 0) WHERE " + idColumn + " = ?";
+            this.selectCountSql = "SELECT like_count FROM " + table + " WHERE " + idColumn + " = ?";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<LikeTarget, WriteBehindCounter> counters = new EnumMap<>(LikeTarget.class);
+    private volatile boolean running;
+
+    public LikeCounterService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (LikeTarget target : LikeTarget.values()) {
+            counters.put(target, new WriteBehindCounter(
+                jdbcTemplate, transactionTemplate, target.updateCountSql, "like " + target));
+        }
+    }
+
+    // 새로 좋아요가 기록됐으면 true. 이미 있던 좋아요(동시 클릭 포함)는 false
+    public boolean like(LikeTarget target, Long targetId, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(target.insertSql, targetId, userId, now, now, targetId, userId);
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+        if (inserted == 0) {
+            return false;
+        }
+        addDelta(target, targetId, 1);
+        return true;
+    }
+
+    public boolean unlike(LikeTarget target, Long targetId, Long userId) {
+        int deleted = jdbcTemplate.update(target.deleteSql, targetId, userId);
+        if (deleted == 0) {
+            return false;
+        }
+        addDelta(target, targetId, -deleted);
+        return true;
+    }
+
+    public int currentCount(LikeTarget target, Long targetId, Integer persistedCount) {
+        long count = persistedCount == null ? 0 : persistedCount;
+        if (targetId != null) {
+            count += counters.get(target).pending(targetId);
+        }
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, count));
+    }
+
+    // 엔티티에 들고 있던 값 대신 지금 저장된 값에 미반영 delta 를 더한다
+    public int loadCount(LikeTarget target, Long targetId) {
+        List<Integer> persisted = jdbcTemplate.queryForList(target.selectCountSql, Integer.class, targetId);
+        return currentCount(target, targetId, persisted.isEmpty() ? null : persisted.get(0));
+    }
+
+    @Scheduled(fixedDelayString = "${app.like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (WriteBehindCounter counter : counters.values()) {
+            counter.flush();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 멈춘 뒤에 남은 delta 를 저장한다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void addDelta(LikeTarget target, Long targetId, long delta) {
+        WriteBehindCounter counter = counters.get(target);
+        // 응답에 바로 반영되도록 커밋 전에 더하고, 롤백되면 되돌린다
+        counter.add(targetId, delta);
+        TransactionCallbacks.afterRollback(() -> counter.add(targetId, -delta));
+    }
+}
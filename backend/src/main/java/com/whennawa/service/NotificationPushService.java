@@ -0,0 +1,61 @@
+package com.whennawa.service;
+
+import com.whennawa.dto.notification.NotificationUnreadCountResponse;
+import com.whennawa.dto.notification.UserNotificationResponse;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService {
+    public static final String NOTIFICATION_DESTINATION = "/queue/notifications";
+    public static final String UNREAD_COUNT_DESTINATION = "/queue/notifications/unread-count";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void pushNotifications(Map<Long, UserNotificationResponse> notificationsByUserId,
+                                  Map<Long, Long> unreadCountsByUserId) {
+        if (notificationsByUserId == null || notificationsByUserId.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Long, UserNotificationResponse> entry : notificationsByUserId.entrySet()) {
+            Long userId = entry.getKey();
+            send(userId, NOTIFICATION_DESTINATION, entry.getValue());
+            Long unreadCount = unreadCountsByUserId == null ? null : unreadCountsByUserId.get(userId);
+            if (unreadCount != null) {
+                pushUnreadCount(userId, unreadCount);
+            }
+        }
+    }
+
+    public void pushCatchUp(Long userId, List<UserNotificationResponse> notifications, long unreadCount) {
+        if (notifications != null) {
+            for (UserNotificationResponse notification : notifications) {
+                send(userId, NOTIFICATION_DESTINATION, notification);
+            }
+        }
+        pushUnreadCount(userId, unreadCount);
+    }
+
+    public void pushUnreadCount(Long userId, long unreadCount) {
+        send(userId, UNREAD_COUNT_DESTINATION, new NotificationUnreadCountResponse(Math.max(unreadCount, 0L)));
+    }
+
+    private void send(Long userId, String destination, Object payload) {
+        if (userId == null || payload == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), destination, payload);
+        } catch (MessagingException ex) {
+            // 실시간 푸시는 best-effort, 누락분은 재연결 catch-up으로 복구
+            log.warn("Failed to push notification to user {}: {}", userId, ex.getMessage());
+        }
+    }
+}
@@ -12,11 +12,14 @@ import com.whennawa.repository.CompanyNotificationSubscriptionRepository;
 import com.whennawa.repository.CompanyRepository;
 import com.whennawa.repository.UserRepository;
 import com.whennawa.util.CompanyNameNormalizer;
+import com.whennawa.util.TransactionCallbacks;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,11 +34,14 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class NotificationService {
     private static final int MAX_REPORTER_MESSAGE_LENGTH = 120;
+    private static final int CATCH_UP_LIMIT = 50;
 
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final CompanyNotificationSubscriptionRepository subscriptionRepository;
     private final CompanyNotificationRepository notificationRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationUnreadCounter unreadCounter;
 
     @Transactional
     public NotificationSubscriptionResponse subscribe(Long userId, String companyNameRaw) {
@@ -92,7 +98,19 @@ public class NotificationService {
     public void deleteNotification(Long userId, Long notificationId) {
         CompanyNotification notification = notificationRepository.findByNotificationIdAndUser_Id(notificationId, userId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Notification not found"));
+        boolean wasUnread = !notification.isRead();
         notificationRepository.delete(notification);
+        if (wasUnread) {
+            TransactionCallbacks.afterCommit(() -> onUnreadRemoved(userId));
+        }
+    }
+
+    private void onUnreadRemoved(Long userId) {
+        unreadCounter.decrement(userId);
+        Long unreadCount = unreadCounter.peek(userId);
+        if (unreadCount != null) {
+            notificationPushService.pushUnreadCount(userId, unreadCount);
+        }
     }
 
     @Transactional
@@ -125,6 +143,7 @@ public class NotificationService {
         int nextCount = Math.max(baseCount, 0) + 1;
 
         List<CompanyNotification> toSave = new java.util.ArrayList<>();
+        Set<Long> newlyUnreadUserIds = new HashSet<>();
         for (CompanyNotificationSubscription subscription : subscriptions) {
             if (subscription == null || subscription.getUser() == null || subscription.getUser().isDeleted()) {
                 continue;
@@ -143,6 +162,7 @@ public class NotificationService {
                 notification.setReporterMessage(reporterMessage);
                 notification.setReporterCount(nextCount);
                 notification.setRead(false);
+                newlyUnreadUserIds.add(subscriberId);
             } else {
                 if (notification.getFirstReporterNickname() == null || notification.getFirstReporterNickname().isBlank()) {
                     notification.setFirstReporterNickname(reporterNickname);
@@ -152,15 +172,74 @@ public class NotificationService {
                     notification.setReporterMessage(reporterMessage);
                 }
                 notification.setReporterCount(nextCount);
+                if (notification.isRead()) {
+                    newlyUnreadUserIds.add(subscriberId);
+                }
                 notification.setRead(false);
             }
             toSave.add(notification);
         }
         if (!toSave.isEmpty()) {
-            notificationRepository.saveAll(toSave);
+            List<CompanyNotification> saved = notificationRepository.saveAll(toSave);
+            schedulePush(saved, newlyUnreadUserIds);
         }
     }
 
+    @Transactional(readOnly = true)
+    public List<UserNotificationResponse> listSince(Long userId,
+                                                    Long lastSeenNotificationId,
+                                                    LocalDateTime lastSeenUpdatedAt) {
+        long afterId = lastSeenNotificationId == null ? 0L : Math.max(lastSeenNotificationId, 0L);
+        LocalDateTime afterUpdatedAt = lastSeenUpdatedAt;
+        if (afterUpdatedAt == null && afterId > 0) {
+            // updatedAt 을 모르는 클라이언트: 마지막 알림의 현재 updatedAt 부터 이어 준다
+            afterUpdatedAt = notificationRepository.findByNotificationIdAndUser_Id(afterId, userId)
+                .map(CompanyNotification::getUpdatedAt)
+                .orElse(null);
+        }
+        List<CompanyNotification> missed = afterUpdatedAt == null
+            ? notificationRepository.findTop50ByUser_IdAndNotificationIdGreaterThanOrderByNotificationIdAsc(userId, afterId)
+            : notificationRepository.findUpdatedSince(userId, afterUpdatedAt, afterId, PageRequest.of(0, CATCH_UP_LIMIT));
+        return missed.stream()
+            .map(this::toUserNotificationResponse)
+            .toList();
+    }
+
+    public long countUnread(Long userId) {
+        return unreadCounter.get(userId);
+    }
+
+    @Transactional
+    public void markRead(Long userId, Long notificationId) {
+        CompanyNotification notification = notificationRepository.findByNotificationIdAndUser_Id(notificationId, userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Notification not found"));
+        if (notification.isRead()) {
+            return;
+        }
+        notification.setRead(true);
+        TransactionCallbacks.afterCommit(() -> onUnreadRemoved(userId));
+    }
+
+    private void schedulePush(List<CompanyNotification> saved, Set<Long> newlyUnreadUserIds) {
+        Map<Long, UserNotificationResponse> notificationsByUserId = new HashMap<>();
+        for (CompanyNotification notification : saved) {
+            notificationsByUserId.put(notification.getUser().getId(), toUserNotificationResponse(notification));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Map<Long, Long> unreadCountsByUserId = new HashMap<>();
+            for (Long userId : notificationsByUserId.keySet()) {
+                if (newlyUnreadUserIds.contains(userId)) {
+                    unreadCounter.increment(userId);
+                }
+                Long unreadCount = unreadCounter.peek(userId);
+                if (unreadCount != null) {
+                    unreadCountsByUserId.put(userId, unreadCount);
+                }
+            }
+            notificationPushService.pushNotifications(notificationsByUserId, unreadCountsByUserId);
+        });
+    }
+
     private NotificationSubscriptionResponse toSubscriptionResponse(CompanyNotificationSubscription item) {
         return new NotificationSubscriptionResponse(
             item.getSubscriptionId(),
@@ -0,0 +1,168 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.CompanyNotificationRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user unread notification counts kept in memory.
+ * Loaded from the database on first access, adjusted by fan-out/read/delete and
+ * periodically reconciled so that drift (rollbacks, retention cleanup) heals itself.
+ * Every adjustment bumps the entry's version; a database count is only stored if no adjustment landed
+ * while it was being read, because the query may or may not have seen that change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    private static final int LOAD_ATTEMPTS = 3;
+
+    private final CompanyNotificationRepository notificationRepository;
+    private final AppProperties appProperties;
+    private final ConcurrentMap<Long, Entry> entriesByUserId = new ConcurrentHashMap<>();
+
+    public long get(Long userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        Entry entry = entriesByUserId.computeIfAbsent(userId, key -> new Entry());
+        entry.touch();
+        for (int attempt = 1; !entry.isLoaded(); attempt++) {
+            long version = entry.version();
+            long loaded = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+            // 조회 중에 증감이 들어왔으면 다시 읽고, 계속 겹치면 다음 reconcile 에 맡긴다
+            if (!entry.load(loaded, version) && attempt >= LOAD_ATTEMPTS) {
+                entry.forceLoad(loaded);
+            }
+        }
+        return entry.count();
+    }
+
+    // 캐시에 올라와 있는 사용자만 값을 돌려준다 (콜드 사용자는 DB 조회 없이 null)
+    public Long peek(Long userId) {
+        Entry entry = userId == null ? null : entriesByUserId.get(userId);
+        return entry == null || !entry.isLoaded() ? null : entry.count();
+    }
+
+    public void increment(Long userId) {
+        adjust(userId, 1L);
+    }
+
+    public void decrement(Long userId) {
+        adjust(userId, -1L);
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            entriesByUserId.remove(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.unread-reconcile-ms:300000}")
+    public void reconcile() {
+        if (entriesByUserId.isEmpty()) {
+            return;
+        }
+        long idleCutoff = System.currentTimeMillis()
+            - appProperties.getNotification().getUnreadIdleEvictMinutes() * 60_000L;
+        entriesByUserId.entrySet().removeIf(item -> item.getValue().lastAccessAt < idleCutoff);
+
+        List<Long> userIds = new ArrayList<>(entriesByUserId.keySet());
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            Map<Long, Long> versions = new HashMap<>();
+            for (Long userId : batch) {
+                Entry entry = entriesByUserId.get(userId);
+                if (entry != null && entry.isLoaded()) {
+                    versions.put(userId, entry.version());
+                }
+            }
+            Map<Long, Long> counts = new HashMap<>();
+            for (CompanyNotificationRepository.UnreadCountRow row : notificationRepository.countUnreadByUserIds(batch)) {
+                counts.put(row.getUserId(), row.getUnreadCount());
+            }
+            for (Long userId : batch) {
+                Entry entry = entriesByUserId.get(userId);
+                Long version = versions.get(userId);
+                if (entry != null && version != null) {
+                    // 조회 중에 바뀐 항목은 건너뛰고 다음 주기에 맞춘다
+                    entry.reconcile(counts.getOrDefault(userId, 0L), version);
+                }
+            }
+        }
+        log.debug("Reconciled unread notification counts for {} users", userIds.size());
+    }
+
+    private void adjust(Long userId, long delta) {
+        Entry entry = userId == null ? null : entriesByUserId.get(userId);
+        if (entry != null) {
+            entry.adjust(delta);
+        }
+    }
+
+    private static final class Entry {
+        private long count;
+        private long version;
+        private boolean loaded;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        private synchronized long count() {
+            return Math.max(count, 0L);
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        // 로드 전이어도 버전은 올려서 진행 중인 로드가 결과를 버리게 한다
+        private synchronized void adjust(long delta) {
+            version++;
+            if (loaded) {
+                count = Math.max(count + delta, 0L);
+            }
+        }
+
+        private synchronized boolean load(long value, long expectedVersion) {
+            if (loaded) {
+                return true;
+            }
+            if (version != expectedVersion) {
+                return false;
+            }
+            count = value;
+            loaded = true;
+            return true;
+        }
+
+        private synchronized void forceLoad(long value) {
+            if (!loaded) {
+                count = value;
+                loaded = true;
+            }
+        }
+
+        private synchronized void reconcile(long value, long expectedVersion) {
+            if (version == expectedVersion) {
+                count = value;
+            }
+        }
+
+        private void touch() {
+            lastAccessAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether board searches use the ngram FULLTEXT indexes or the LIKE scan.
+ * In AUTO mode FULLTEXT is used only on MySQL, so H2 and other databases keep the LIKE queries.
+ */
+@Slf4j
+@Component
+public class PostSearchPolicy {
+    private final boolean fullTextAvailable;
+    private final int minFullTextLength;
+
+    public PostSearchPolicy(AppProperties appProperties, DataSource dataSource) {
+        AppProperties.Search search = appProperties.getSearch();
+        this.minFullTextLength = Math.max(1, search.getMinFullTextLength());
+        this.fullTextAvailable = switch (search.getMode()) {
+            case FULLTEXT -> true;
+            case LIKE -> false;
+            case AUTO -> isMySql(dataSource);
+        };
+        log.info("Board search mode: {} (fulltext={})", search.getMode(), fullTextAvailable);
+    }
+
+    public boolean useFullText(String normalizedQuery) {
+        if (!fullTextAvailable || normalizedQuery == null) {
+            return false;
+        }
+        String cleaned = stripOperators(normalizedQuery);
+        return cleaned.codePointCount(0, cleaned.length()) >= minFullTextLength;
+    }
+
+    // BOOLEAN MODE 구문 검색어. 연산자 문자는 공백으로 바꾸고 전체를 한 구문으로 묶는다
+    public static String phrase(String normalizedQuery) {
+        return "\"" + stripOperators(normalizedQuery) + "\"";
+    }
+
+    private static String stripOperators(String query) {
+        return query.replaceAll("[\"+\\-<>()~*@]", " ").trim();
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            return product != null && product.toLowerCase().contains("mysql");
+        } catch (SQLException ex) {
+            log.warn("Board search: database detection failed, using LIKE - {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Board post view counts kept in memory and written behind in batches.
+ * A viewer (user id, or client address when signed out) counts once per post within the dedupe window.
+ * Pending views are flushed by {@link WriteBehindCounter} as {@code view_count = view_count + ?}
+ * on a schedule and on shutdown. A crash loses at most the views of one flush interval
+ * ({@code app.board.view-flush-interval-ms}, 1s by default), which is acceptable for a view count.
+ */
+@Component
+public class PostViewCounter implements SmartLifecycle {
+    public enum ViewTarget {
+        BOARD_POST("board_post"),
+        CAREER_BOARD_POST("career_board_post");
+
+        private final String updateCountSql;
+
+        ViewTarget(String table) {
+            this.updateCountSql = "UPDATE " + table + " SET view_count = view_count + ? WHERE post_id = ?";
+        }
+    }
+
+    private final long dedupeWindowMillis;
+    private final int dedupeMaxEntries;
+    private final Map<ViewTarget, WriteBehindCounter> counters = new EnumMap<>(ViewTarget.class);
+    // key -> 중복 집계 창이 끝나는 시각. 조회마다 지나가므로 전역 락 없이 키 단위로만 갱신한다
+    private final ConcurrentMap<String, Long> recentViews = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private volatile boolean running;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           AppProperties appProperties) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dedupeWindowMillis = Math.max(0L, appProperties.getBoard().getViewDedupeWindowSeconds()) * 1000L;
+        this.dedupeMaxEntries = Math.max(1, appProperties.getBoard().getViewDedupeMaxEntries());
+        for (ViewTarget target : ViewTarget.values()) {
+            counters.put(target, new WriteBehindCounter(
+                jdbcTemplate, transactionTemplate, target.updateCountSql, "view " + target));
+        }
+    }
+
+    // 조회를 기록하고 이번 조회까지 반영한 조회수를 돌려준다
+    public long recordView(ViewTarget target, Long postId, long persistedCount, Long userId, String clientAddress) {
+        if (postId == null) {
+            return Math.max(0L, persistedCount);
+        }
+        String viewer = userId != null ? "u:" + userId : "a:" + (clientAddress == null ? "" : clientAddress);
+        if (markViewed(target.ordinal() + ":" + postId + ":" + viewer)) {
+            counters.get(target).add(postId, 1);
+        }
+        return currentCount(target, postId, persistedCount);
+    }
+
+    public long currentCount(ViewTarget target, Long postId, long persistedCount) {
+        long count = persistedCount;
+        if (postId != null) {
+            count += counters.get(target).pending(postId);
+        }
+        return Math.max(0L, count);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.view-flush-interval-ms:1000}")
+    public synchronized void flush() {
+        for (WriteBehindCounter counter : counters.values()) {
+            counter.flush();
+        }
+        evictExpiredViews();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 멈춘 뒤에 남은 조회수를 저장한다
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private boolean markViewed(String key) {
+        if (dedupeWindowMillis <= 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        AtomicBoolean counted = new AtomicBoolean();
+        recentViews.compute(key, (viewer, expiresAt) -> {
+            if (expiresAt != null && expiresAt > now) {
+                return expiresAt;
+            }
+            counted.set(true);
+            return now + dedupeWindowMillis;
+        });
+        if (recentViews.size() > dedupeMaxEntries && trimming.compareAndSet(false, true)) {
+            try {
+                trimViews(now);
+            } finally {
+                trimming.set(false);
+            }
+        }
+        return counted.get();
+    }
+
+    private void evictExpiredViews() {
+        trimViews(System.currentTimeMillis());
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 넘치면 임의의 항목을 지운다 (그 viewer 는 한 번 더 집계될 수 있다)
+    private void trimViews(long now) {
+        recentViews.values().removeIf(expiresAt -> expiresAt <= now);
+        Iterator<String> keys = recentViews.keySet().iterator();
+        while (recentViews.size() > dedupeMaxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -1,29 +1,54 @@
 package com.whennawa.service;
 
+import com.whennawa.config.AppProperties;
+import com.whennawa.util.AhoCorasickMatcher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public class ProfanityMasker {
     private static final String BLINDED_TEXT = "[블라인드]";
+    private static final String EMPTY_VERSION = "empty";
+    private static final long UNKNOWN_MODIFIED = -1L;
+
     private final Resource profanityWordsResource;
-    private volatile List<Pattern> patterns = List.of();
+    private final AppProperties appProperties;
+    private final Timer buildTimer;
+    // matcher 와 version 은 항상 한 번에 교체한다
+    private volatile Dictionary dictionary = new Dictionary(AhoCorasickMatcher.empty(), EMPTY_VERSION);
+    private volatile long lastModified = UNKNOWN_MODIFIED;
 
     public ProfanityMasker(
-        @Value("${app.chat.profanity.file:classpath:profanity-words.txt}") Resource profanityWordsResource
+        ResourceLoader resourceLoader,
+        AppProperties appProperties,
+        MeterRegistry meterRegistry
     ) {
-        this.profanityWordsResource = profanityWordsResource;
+        this.profanityWordsResource = resourceLoader.getResource(appProperties.getChat().getProfanity().getFile());
+        this.appProperties = appProperties;
+        this.buildTimer = Timer.builder("profanity.dictionary.build")
+            .description("Time to load the profanity word list and build the matcher")
+            .register(meterRegistry);
+        Gauge.builder("profanity.dictionary.entries", this, masker -> masker.dictionary.matcher().wordCount())
+            .description("Number of words in the active profanity dictionary")
+            .register(meterRegistry);
     }
 
     @PostConstruct
@@ -35,33 +60,63 @@ public class ProfanityMasker {
         if (text == null || text.isBlank()) {
             return text;
         }
-        String sanitized = text;
-        for (Pattern pattern : patterns) {
-            sanitized = pattern.matcher(sanitized).replaceAll(BLINDED_TEXT);
+        return dictionary.matcher().replaceAll(text, BLINDED_TEXT);
+    }
+
+    // 마스킹에 사용한 사전 버전을 함께 돌려준다. 저장 시 mask_version 으로 기록
+    public MaskedText maskWithVersion(String text) {
+        Dictionary current = dictionary;
+        if (text == null || text.isBlank()) {
+            return new MaskedText(text, current.version());
         }
-        return sanitized;
+        return new MaskedText(current.matcher().replaceAll(text, BLINDED_TEXT), current.version());
+    }
+
+    public boolean isCurrentVersion(String version) {
+        return version != null && version.equals(dictionary.version());
     }
 
     public boolean containsProfanity(String text) {
         if (text == null || text.isBlank()) {
             return false;
         }
-        for (Pattern pattern : patterns) {
-            if (pattern.matcher(text).find()) {
-                return true;
-            }
+        return dictionary.matcher().containsMatch(text);
+    }
+
+    public String currentVersion() {
+        return dictionary.version();
+    }
+
+    public int wordCount() {
+        return dictionary.matcher().wordCount();
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.profanity.watch-interval-ms:5000}",
+        initialDelayString = "${app.chat.profanity.watch-interval-ms:5000}")
+    public void watch() {
+        if (!appProperties.getChat().getProfanity().isWatchEnabled()) {
+            return;
         }
-        return false;
+        long modified = readLastModified();
+        // jar 내부 classpath 리소스는 mtime 을 알 수 없으므로 감시 대상이 아니다
+        if (modified == UNKNOWN_MODIFIED || modified == lastModified) {
+            return;
+        }
+        log.info("Profanity words resource changed: {}", profanityWordsResource);
+        reloadPatterns();
     }
 
-    public void reloadPatterns() {
-        List<Pattern> loaded = new ArrayList<>();
+    public synchronized void reloadPatterns() {
         if (!profanityWordsResource.exists()) {
-            log.warn("Profanity words resource not found: {}", profanityWordsResource);
-            patterns = List.of();
+            // 편집기의 rename 저장 중 잠깐 사라질 수 있으니 이전 사전을 유지한다. 최초 로딩이면 빈 사전 그대로
+            log.warn("Profanity words resource not found, keeping version {}: {}",
+                dictionary.version(), profanityWordsResource);
             return;
         }
 
+        long modified = readLastModified();
+        long startedAt = System.nanoTime();
+        List<String> loaded = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(
             new InputStreamReader(profanityWordsResource.getInputStream(), StandardCharsets.UTF_8)
         )) {
@@ -71,13 +126,56 @@ public class ProfanityMasker {
                 if (word.isBlank() || word.startsWith("#")) {
                     continue;
                 }
-                loaded.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+                loaded.add(word);
             }
-            patterns = List.copyOf(loaded);
-            log.info("Loaded profanity patterns: {}", patterns.size());
         } catch (IOException e) {
+            // 이전 사전을 유지한다. 최초 로딩이면 빈 사전 그대로
             log.error("Failed to load profanity words from {}", profanityWordsResource, e);
-            patterns = List.of();
+            return;
         }
+        lastModified = modified;
+
+        String version = versionOf(loaded);
+        if (version.equals(dictionary.version())) {
+            log.debug("Profanity dictionary unchanged: version={}", version);
+            return;
+        }
+        AhoCorasickMatcher built = AhoCorasickMatcher.build(loaded);
+        dictionary = new Dictionary(built, version);
+        buildTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("Loaded profanity patterns: {} (version={})", built.wordCount(), version);
+    }
+
+    private long readLastModified() {
+        try {
+            if (!profanityWordsResource.isFile()) {
+                return UNKNOWN_MODIFIED;
+            }
+            return profanityWordsResource.lastModified();
+        } catch (IOException e) {
+            return UNKNOWN_MODIFIED;
+        }
+    }
+
+    private static String versionOf(List<String> words) {
+        if (words.isEmpty()) {
+            return EMPTY_VERSION;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String word : words) {
+                digest.update(word.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record MaskedText(String text, String version) {
+    }
+
+    private record Dictionary(AhoCorasickMatcher matcher, String version) {
     }
 }
@@ -0,0 +1,99 @@
+package com.whennawa.service;
+
+import com.whennawa.entity.User;
+import com.whennawa.security.JwtService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight refresh handling per refresh token hash.
+ * The first caller validates (or rotates) the token and callers arriving while it runs share the result.
+ * Nothing is kept once the call completes, so replaying a rotated token afterwards fails like any stale token
+ * instead of receiving the new pair.
+ */
+@Component
+public class RefreshTokenCoalescer {
+    private final RefreshTokenService refreshTokenService;
+    private final JwtService jwtService;
+    private final ConcurrentMap<String, CompletableFuture<RefreshedAccess>> accessFlights = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<RotatedTokens>> rotationFlights = new ConcurrentHashMap<>();
+
+    public RefreshTokenCoalescer(RefreshTokenService refreshTokenService,
+                                 JwtService jwtService) {
+        this.refreshTokenService = refreshTokenService;
+        this.jwtService = jwtService;
+    }
+
+    // 필터용: refresh token 검증 후 새 access token 발급 (refresh token 은 그대로)
+    public RefreshedAccess authenticate(String refreshToken) {
+        return run(accessFlights, refreshToken, () -> {
+            User user = refreshTokenService.validateTokenAndGetUser(refreshToken);
+            return new RefreshedAccess(user, jwtService.createAccessToken(user));
+        });
+    }
+
+    // /api/auth/refresh 용: 동시에 들어온 요청이 각자 회전하면 뒤 요청은 이미 지워진 토큰을 보게 된다
+    public RotatedTokens rotate(String refreshToken) {
+        return run(rotationFlights, refreshToken, () -> {
+            RefreshTokenService.RotationResult rotation = refreshTokenService.rotateToken(refreshToken);
+            String accessToken = jwtService.createAccessToken(rotation.user());
+            return new RotatedTokens(rotation.user(), accessToken, rotation.refreshToken(), rotation.expiresAt());
+        });
+    }
+
+    private <T> T run(ConcurrentMap<String, CompletableFuture<T>> flights, String refreshToken, Supplier<T> work) {
+        String key = hash(refreshToken);
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = flights.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+        // 완료 전에 맵에서 빼야 이후 요청이 끝난 결과를 받아가지 않는다
+        try {
+            T result = work.get();
+            flights.remove(key, created);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flights.remove(key, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record RefreshedAccess(User user, String accessToken) {}
+
+    public record RotatedTokens(User user, String accessToken, String refreshToken, LocalDateTime expiresAt) {}
+}
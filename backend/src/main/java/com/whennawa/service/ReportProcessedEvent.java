@@ -0,0 +1,16 @@
+package com.whennawa.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an admin processes a report into a step log.
+ * Listeners run after the processing transaction commits.
+ */
+public record ReportProcessedEvent(
+    Long companyId,
+    String companyName,
+    String stepName,
+    int reportCount,
+    LocalDateTime processedAt
+) {
+}
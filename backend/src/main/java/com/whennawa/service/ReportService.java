@@ -52,6 +52,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -75,6 +76,7 @@ public class ReportService {
     private final NotificationService notificationService;
     private final InterviewReviewService interviewReviewService;
     private final AppProperties appProperties;
+    private final ApplicationEventPublisher eventPublisher;
     private final ConcurrentMap<String, Long> lastReportAtByIp = new ConcurrentHashMap<>();
 
     @Transactional
@@ -811,6 +813,7 @@ public class ReportService {
                 rollingLog.setReportCount(currentCount + reportCountToApply);
             }
             rollingStepLogRepository.save(rollingLog);
+            publishReportProcessed(rollingLog.getCompany(), rollingLog.getCompanyName(), rollingLog.getStepName(), reportCountToApply);
             syncInterviewReviewForProcessing(report);
             report.setStatus(ReportStatus.PROCESSED);
             report.setDeletedAt(LocalDateTime.now());
@@ -903,6 +906,7 @@ public class ReportService {
                 regularLog.setReportCount(currentCount + reportCountToApply);
             }
             recruitmentStepLogRepository.save(regularLog);
+            publishReportProcessed(regularLog.getCompany(), regularLog.getCompanyName(), regularLog.getStepName(), reportCountToApply);
             syncInterviewReviewForProcessing(report);
             report.setStatus(ReportStatus.PROCESSED);
             report.setDeletedAt(LocalDateTime.now());
@@ -1152,6 +1156,7 @@ public class ReportService {
             rollingLog.setReportCount(currentCount + reportCountToApply);
         }
         rollingStepLogRepository.save(rollingLog);
+        publishReportProcessed(rollingLog.getCompany(), rollingLog.getCompanyName(), rollingLog.getStepName(), reportCountToApply);
         syncInterviewReviewForProcessing(report);
         report.setStatus(ReportStatus.PROCESSED);
         report.setDeletedAt(LocalDateTime.now());
@@ -2090,6 +2095,16 @@ public class ReportService {
             .toList();
     }
 
+    private void publishReportProcessed(Company company, String companyName, String stepName, int reportCount) {
+        eventPublisher.publishEvent(new ReportProcessedEvent(
+            company == null ? null : company.getCompanyId(),
+            companyName,
+            stepName,
+            reportCount,
+            LocalDateTime.now()
+        ));
+    }
+
     private void enforceCooldown(String clientIp) {
         if (clientIp == null || clientIp.isBlank()) {
             return;
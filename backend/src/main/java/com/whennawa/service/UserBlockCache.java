@@ -0,0 +1,96 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.UserBlockRepository;
+import com.whennawa.util.LongSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Blocked user ids per blocker, least recently used users evicted first.
+ * Entries are invalidated after a block/unblock commits; a load that raced with an invalidation is not cached.
+ * Changes committed on other instances never reach this listener, so entries also expire after a short TTL.
+ */
+@Component
+public class UserBlockCache {
+    private final UserBlockRepository userBlockRepository;
+    private final int maxUsers;
+    private final long ttlMillis;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Map<Long, CachedBlocks> blockedByUser;
+
+    public UserBlockCache(UserBlockRepository userBlockRepository, AppProperties appProperties) {
+        this.userBlockRepository = userBlockRepository;
+        this.maxUsers = Math.max(1, appProperties.getBlock().getCacheMaxUsers());
+        this.ttlMillis = Math.max(0L, appProperties.getBlock().getCacheTtlSeconds()) * 1000L;
+        this.blockedByUser = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedBlocks> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public LongSet get(Long blockerUserId) {
+        if (blockerUserId == null) {
+            return LongSet.empty();
+        }
+        long now = System.currentTimeMillis();
+        synchronized (blockedByUser) {
+            CachedBlocks cached = blockedByUser.get(blockerUserId);
+            if (cached != null) {
+                if (cached.expiresAtMillis() > now) {
+                    return cached.blocked();
+                }
+                blockedByUser.remove(blockerUserId);
+            }
+        }
+        return load(blockerUserId);
+    }
+
+    // 캐시를 건너뛰고 DB 에서 다시 읽는다
+    public LongSet reload(Long blockerUserId) {
+        if (blockerUserId == null) {
+            return LongSet.empty();
+        }
+        return load(blockerUserId);
+    }
+
+    public void invalidate(Long blockerUserId) {
+        if (blockerUserId == null) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        synchronized (blockedByUser) {
+            blockedByUser.remove(blockerUserId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBlockChanged(UserBlockChangedEvent event) {
+        invalidate(event.blockerUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountWithdrawn(AccountWithdrawnEvent event) {
+        invalidate(event.userId());
+    }
+
+    private LongSet load(Long blockerUserId) {
+        long generation = invalidations.get();
+        LongSet loaded = LongSet.of(userBlockRepository.findActiveBlockedUserIds(blockerUserId));
+        synchronized (blockedByUser) {
+            if (invalidations.get() == generation) {
+                blockedByUser.put(blockerUserId, new CachedBlocks(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    private record CachedBlocks(LongSet blocked, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.whennawa.service;
+
+/**
+ * Published when a user blocks or unblocks someone. Listeners refresh the blocker's cached block list.
+ */
+public record UserBlockChangedEvent(Long blockerUserId) {
+}
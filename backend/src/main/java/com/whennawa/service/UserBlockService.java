@@ -5,10 +5,10 @@ import com.whennawa.entity.User;
 import com.whennawa.entity.UserBlock;
 import com.whennawa.repository.UserBlockRepository;
 import com.whennawa.repository.UserRepository;
+import com.whennawa.util.LongSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +19,8 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserBlockService {
     private final UserRepository userRepository;
     private final UserBlockRepository userBlockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserBlockCache userBlockCache;
 
     @Transactional
     public void blockUser(Long blockerUserId, Long blockedUserId) {
@@ -37,6 +39,7 @@ public class UserBlockService {
             });
         block.setActive(true);
         userBlockRepository.save(block);
+        eventPublisher.publishEvent(new UserBlockChangedEvent(blocker.getId()));
     }
 
     @Transactional
@@ -44,6 +47,7 @@ public class UserBlockService {
         UserBlock block = userBlockRepository.findByBlocker_IdAndBlocked_Id(blockerUserId, blockedUserId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Block not found"));
         block.setActive(false);
+        eventPublisher.publishEvent(new UserBlockChangedEvent(blockerUserId));
     }
 
     @Transactional(readOnly = true)
@@ -55,16 +59,8 @@ public class UserBlockService {
             .toList();
     }
 
-    @Transactional(readOnly = true)
-    public Set<Long> findBlockedUserIds(Long blockerUserId) {
-        if (blockerUserId == null) {
-            return Set.of();
-        }
-        return userBlockRepository.findByBlocker_IdAndIsActiveTrueOrderByBlockIdDesc(blockerUserId).stream()
-            .map(UserBlock::getBlocked)
-            .filter(user -> user != null && user.getId() != null && !user.isDeleted())
-            .map(User::getId)
-            .collect(Collectors.toSet());
+    public LongSet findBlockedUserIds(Long blockerUserId) {
+        return userBlockCache.get(blockerUserId);
     }
 
     private User resolveUser(Long userId) {
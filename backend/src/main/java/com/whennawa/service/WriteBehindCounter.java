@@ -0,0 +1,151 @@
+package com.whennawa.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.StampedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Per-row count deltas kept in memory and written behind with one update statement, e.g.
+ * {@code UPDATE t SET c = c + ? WHERE id = ?} taking (delta, id). {@link #pending} includes deltas that
+ * are queued or being written; callers read the persisted value first and add it.
+ * A flush moves the queue into the in-flight batch and clears that batch while its commit runs, both under
+ * a write lock, so a reader never sees a delta twice. A failed batch stays in flight and is retried with the
+ * next one. Flushes of one counter must not overlap.
+ */
+@Slf4j
+final class WriteBehindCounter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String updateSql;
+    private final String name;
+    private final ConcurrentMap<Long, Long> pending = new ConcurrentHashMap<>();
+    // 쓰기 락 안에서만 통째로 교체한다
+    private volatile Map<Long, Long> inFlight = Map.of();
+    private final StampedLock lock = new StampedLock();
+
+    WriteBehindCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       String updateSql, String name) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.updateSql = updateSql;
+        this.name = name;
+    }
+
+    void add(Long id, long delta) {
+        if (delta != 0) {
+            pending.merge(id, delta, (current, added) -> current + added == 0 ? null : current + added);
+        }
+    }
+
+    long pending(Long id) {
+        long stamp = lock.tryOptimisticRead();
+        long count = sum(id);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                count = sum(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return count;
+    }
+
+    void flush() {
+        Map<Long, Long> batch = takeBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<long[]> rows = new ArrayList<>(batch.size());
+        batch.forEach((id, delta) -> rows.add(new long[]{delta, id}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(updateSql, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, rows.get(i)[0]);
+                        ps.setLong(2, rows.get(i)[1]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+                TransactionSynchronizationManager.registerSynchronization(new ClearOnCommit());
+            });
+        } catch (DataAccessException | TransactionException ex) {
+            // 배치 전체가 롤백됐으니 inFlight 에 그대로 두고 다음 주기에 새 delta 와 함께 다시 쓴다
+            log.warn("Count flush of {} {} rows failed: {}", rows.size(), name, ex.getMessage());
+        }
+    }
+
+    private long sum(Long id) {
+        long count = 0;
+        Long queued = pending.get(id);
+        if (queued != null) {
+            count += queued;
+        }
+        Long writing = inFlight.get(id);
+        if (writing != null) {
+            count += writing;
+        }
+        return count;
+    }
+
+    private Map<Long, Long> takeBatch() {
+        long stamp = lock.writeLock();
+        try {
+            Map<Long, Long> batch = new HashMap<>(inFlight);
+            for (Long id : pending.keySet()) {
+                Long delta = pending.remove(id);
+                if (delta != null) {
+                    batch.merge(id, delta, Long::sum);
+                }
+            }
+            batch.values().removeIf(delta -> delta == 0);
+            inFlight = Map.copyOf(batch);
+            return inFlight;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 커밋하는 동안 읽기를 막아 DB 반영과 inFlight 비우기가 한 번에 보이게 한다
+    private final class ClearOnCommit implements TransactionSynchronization {
+        private long stamp;
+
+        @Override
+        public void beforeCompletion() {
+            stamp = lock.writeLock();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (stamp == 0L) {
+                return;
+            }
+            try {
+                if (status == STATUS_COMMITTED) {
+                    inFlight = Map.of();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.whennawa.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable Aho-Corasick automaton over a fixed word list.
+ * Matching is ASCII case-insensitive (same as {@code Pattern.CASE_INSENSITIVE}) and runs in one pass.
+ * Overlapping matches are resolved leftmost-longest when masking.
+ */
+public final class AhoCorasickMatcher {
+    private static final AhoCorasickMatcher EMPTY = new AhoCorasickMatcher(new int[]{0}, new int[]{-1},
+        new int[]{0}, new long[1], new int[1], 0);
+
+    private final int[] fail;
+    private final int[] dictLink;
+    private final int[] outputLength;
+    // (state, char) -> next state, open addressing. key 는 ((state << 16) | char) + 1, 0 은 빈 칸
+    private final long[] transitionKeys;
+    private final int[] transitionTargets;
+    private final int wordCount;
+
+    private AhoCorasickMatcher(int[] fail,
+                               int[] dictLink,
+                               int[] outputLength,
+                               long[] transitionKeys,
+                               int[] transitionTargets,
+                               int wordCount) {
+        this.fail = fail;
+        this.dictLink = dictLink;
+        this.outputLength = outputLength;
+        this.transitionKeys = transitionKeys;
+        this.transitionTargets = transitionTargets;
+        this.wordCount = wordCount;
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    public static AhoCorasickMatcher build(Collection<String> words) {
+        if (words == null || words.isEmpty()) {
+            return EMPTY;
+        }
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> depthOutputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        depthOutputs.add(0);
+        int wordCount = 0;
+        int transitionCount = 0;
+
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = fold(word.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new HashMap<>());
+                    depthOutputs.add(0);
+                    transitionCount++;
+                }
+                state = next;
+            }
+            if (depthOutputs.get(state) == 0) {
+                wordCount++;
+            }
+            depthOutputs.set(state, word.length());
+        }
+        if (wordCount == 0) {
+            return EMPTY;
+        }
+
+        int stateCount = children.size();
+        int capacity = Integer.highestOneBit(Math.max(transitionCount, 1) * 2 - 1) << 1;
+        long[] keys = new long[capacity];
+        int[] targets = new int[capacity];
+        for (int state = 0; state < stateCount; state++) {
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                put(keys, targets, state, edge.getKey(), edge.getValue());
+            }
+        }
+
+        int[] fail = new int[stateCount];
+        int[] dictLink = new int[stateCount];
+        int[] outputLength = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            outputLength[state] = depthOutputs.get(state);
+        }
+        dictLink[0] = -1;
+
+        // BFS 로 failure / dictionary suffix link 계산
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(0).values()) {
+            fail[child] = 0;
+            dictLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int candidate = fail[state];
+                int target;
+                while (true) {
+                    target = get(keys, targets, candidate, c);
+                    if (target >= 0 || candidate == 0) {
+                        break;
+                    }
+                    candidate = fail[candidate];
+                }
+                fail[child] = target >= 0 ? target : 0;
+                dictLink[child] = outputLength[fail[child]] > 0 ? fail[child] : dictLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickMatcher(fail, dictLink, outputLength, keys, targets, wordCount);
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public boolean containsMatch(String text) {
+        if (text == null || text.isEmpty() || wordCount == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, fold(text.charAt(i)));
+            if (outputLength[state] > 0 || dictLink[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String replaceAll(String text, String replacement) {
+        if (text == null || text.isEmpty() || wordCount == 0) {
+            return text;
+        }
+        int length = text.length();
+        // 시작 위치별 가장 긴 매치 길이. 매치가 없으면 할당하지 않는다
+        int[] longestAtStart = null;
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = next(state, fold(text.charAt(i)));
+            int output = outputLength[state] > 0 ? state : dictLink[state];
+            while (output >= 0) {
+                int matchLength = outputLength[output];
+                int start = i - matchLength + 1;
+                if (longestAtStart == null) {
+                    longestAtStart = new int[length];
+                }
+                if (matchLength > longestAtStart[start]) {
+                    longestAtStart[start] = matchLength;
+                }
+                output = dictLink[output];
+            }
+        }
+        if (longestAtStart == null) {
+            return text;
+        }
+
+        StringBuilder masked = new StringBuilder(length + replacement.length());
+        int copyFrom = 0;
+        int i = 0;
+        while (i < length) {
+            int matchLength = longestAtStart[i];
+            if (matchLength == 0) {
+                i++;
+                continue;
+            }
+            masked.append(text, copyFrom, i).append(replacement);
+            i += matchLength;
+            copyFrom = i;
+        }
+        masked.append(text, copyFrom, length);
+        return masked.toString();
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = get(transitionKeys, transitionTargets, state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static long key(int state, char c) {
+        return (((long) state << 16) | c) + 1L;
+    }
+
+    private static int slot(long key, int mask) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 32) & mask;
+    }
+
+    private static void put(long[] keys, int[] targets, int state, char c, int target) {
+        long key = key(state, c);
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (keys[index] != 0L) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        targets[index] = target;
+    }
+
+    private static int get(long[] keys, int[] targets, int state, char c) {
+        long key = key(state, c);
+        int mask = keys.length - 1;
+        int index = slot(key, mask);
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                return targets[index];
+            }
+            if (current == 0L) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.whennawa.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of primitive longs backed by a sorted array.
+ * Meant for small id sets that are read far more often than they change.
+ */
+public final class LongSet {
+    private static final LongSet EMPTY = new LongSet(new long[0]);
+
+    private final long[] values;
+
+    private LongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static LongSet empty() {
+        return EMPTY;
+    }
+
+    public static LongSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] values = ids.stream()
+            .filter(id -> id != null)
+            .mapToLong(Long::longValue)
+            .sorted()
+            .distinct()
+            .toArray();
+        return values.length == 0 ? EMPTY : new LongSet(values);
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public boolean contains(Long value) {
+        return value != null && values.length > 0 && contains(value.longValue());
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
@@ -14,6 +14,9 @@ public class NicknameGenerator {
         "fox", "otter", "whale", "falcon", "tiger", "koala", "wolf", "panda", "eagle", "bear"
     );
     private static final int MAX_ATTEMPTS = 200;
+    private static final int NUMBER_RANGE = 100_000;
+    // prefix x noun x 번호 로 만들 수 있는 닉네임 수
+    public static final int NICKNAME_SPACE = 10 * 10 * NUMBER_RANGE;
 
     private final SecureRandom random = new SecureRandom();
 
@@ -21,17 +24,58 @@ public class NicknameGenerator {
         for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
             String base = PREFIXES.get(random.nextInt(PREFIXES.size()))
                 + "-" + NOUNS.get(random.nextInt(NOUNS.size()));
-            String candidate = base + "#" + String.format("%05d", random.nextInt(100_000));
+            String candidate = base + "#" + String.format("%05d", random.nextInt(NUMBER_RANGE));
             if (!exists.test(candidate)) {
                 return candidate;
             }
         }
         for (int i = 0; i < 10_000; i++) {
-            String fallback = "user#" + String.format("%05d", random.nextInt(100_000));
+            String fallback = "user#" + String.format("%05d", random.nextInt(NUMBER_RANGE));
             if (!exists.test(fallback)) {
                 return fallback;
             }
         }
         throw new IllegalStateException("Unable to allocate unique nickname");
     }
+
+    public int randomIndex() {
+        return random.nextInt(NICKNAME_SPACE);
+    }
+
+    public String nicknameAt(int index) {
+        if (index < 0 || index >= NICKNAME_SPACE) {
+            throw new IllegalArgumentException("Nickname index out of range: " + index);
+        }
+        int number = index % NUMBER_RANGE;
+        int words = index / NUMBER_RANGE;
+        return PREFIXES.get(words / NOUNS.size()) + "-" + NOUNS.get(words % NOUNS.size())
+            + "#" + String.format("%05d", number);
+    }
+
+    // generateUnique/nicknameAt 형식이 아니면 -1
+    public int indexOf(String nickname) {
+        if (nickname == null) {
+            return -1;
+        }
+        int dash = nickname.indexOf('-');
+        int hash = nickname.indexOf('#');
+        if (dash <= 0 || hash <= dash + 1 || nickname.length() - hash - 1 != 5) {
+            return -1;
+        }
+        int prefix = PREFIXES.indexOf(nickname.substring(0, dash));
+        int noun = NOUNS.indexOf(nickname.substring(dash + 1, hash));
+        if (prefix < 0 || noun < 0) {
+            return -1;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(nickname.substring(hash + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+        if (number < 0 || number >= NUMBER_RANGE) {
+            return -1;
+        }
+        return (prefix * NOUNS.size() + noun) * NUMBER_RANGE + number;
+    }
 }
@@ -0,0 +1,83 @@
+package com.whennawa.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Opaque keyset cursor: the sort key of the last row (timestamp or counter) plus its id as tie-breaker.
+ * Clients pass it back unchanged; malformed values raise {@link IllegalArgumentException}, or a 400
+ * {@link ResponseStatusException} through {@link #decodeTimed} and {@link #decodeCounted}.
+ */
+public record PageCursor(String key, long id) {
+    private static final char SEPARATOR = '|';
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt.toString(), id);
+    }
+
+    public static PageCursor of(long count, Long id) {
+        return new PageCursor(Long.toString(count), id);
+    }
+
+    public static PageCursor decode(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("Cursor is empty");
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(raw.trim()), StandardCharsets.UTF_8);
+        int separator = decoded.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new IllegalArgumentException("Cursor is malformed");
+        }
+        return new PageCursor(decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+    }
+
+    // 목록 API 용: 시간 기준 커서가 아니면 400
+    public static PageCursor decodeTimed(String raw) {
+        try {
+            PageCursor cursor = decode(raw);
+            cursor.createdAt();
+            return cursor;
+        } catch (IllegalArgumentException ex) {
+            throw invalid(ex);
+        }
+    }
+
+    // 목록 API 용: int 범위의 카운터 기준 커서가 아니면 400
+    public static PageCursor decodeCounted(String raw) {
+        try {
+            PageCursor cursor = decode(raw);
+            long count = cursor.count();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Cursor count is out of range");
+            }
+            return cursor;
+        } catch (IllegalArgumentException ex) {
+            throw invalid(ex);
+        }
+    }
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Cursor is not time based", ex);
+        }
+    }
+
+    public long count() {
+        return Long.parseLong(key);
+    }
+
+    private static ResponseStatusException invalid(IllegalArgumentException cause) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", cause);
+    }
+}
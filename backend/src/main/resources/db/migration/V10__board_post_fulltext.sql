@@ -0,0 +1,5 @@
+-- 게시글 제목/본문 검색용 ngram FULLTEXT 인덱스 (MySQL 전용, ngram_token_size 기본값 2)
+ALTER TABLE board_post ADD FULLTEXT INDEX ft_board_post_title (title) WITH PARSER ngram;
+ALTER TABLE board_post ADD FULLTEXT INDEX ft_board_post_content (content) WITH PARSER ngram;
+ALTER TABLE career_board_post ADD FULLTEXT INDEX ft_career_board_post_title (title) WITH PARSER ngram;
+ALTER TABLE career_board_post ADD FULLTEXT INDEX ft_career_board_post_content (content) WITH PARSER ngram;
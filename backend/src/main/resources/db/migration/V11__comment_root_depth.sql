@@ -0,0 +1,34 @@
+-- 댓글 트리: 최상위 댓글 id 와 깊이를 저장해 페이지 단위 트리 조회 / 하위 트리 삭제를 한 번에 처리
+ALTER TABLE board_comment
+  ADD COLUMN root_comment_id BIGINT NULL,
+  ADD COLUMN depth INT NOT NULL DEFAULT 0;
+
+UPDATE board_comment c
+  JOIN board_comment p ON c.parent_comment_id = p.comment_id
+  SET c.root_comment_id = p.comment_id, c.depth = 1
+  WHERE p.parent_comment_id IS NULL;
+
+UPDATE board_comment c
+  JOIN board_comment p ON c.parent_comment_id = p.comment_id
+  SET c.root_comment_id = p.parent_comment_id, c.depth = 2
+  WHERE p.parent_comment_id IS NOT NULL;
+
+CREATE INDEX idx_board_comment_root_created_at ON board_comment (root_comment_id, created_at);
+CREATE INDEX idx_board_comment_post_depth ON board_comment (post_id, depth);
+
+ALTER TABLE career_board_comment
+  ADD COLUMN root_comment_id BIGINT NULL,
+  ADD COLUMN depth INT NOT NULL DEFAULT 0;
+
+UPDATE career_board_comment c
+  JOIN career_board_comment p ON c.parent_comment_id = p.comment_id
+  SET c.root_comment_id = p.comment_id, c.depth = 1
+  WHERE p.parent_comment_id IS NULL;
+
+UPDATE career_board_comment c
+  JOIN career_board_comment p ON c.parent_comment_id = p.comment_id
+  SET c.root_comment_id = p.parent_comment_id, c.depth = 2
+  WHERE p.parent_comment_id IS NOT NULL;
+
+CREATE INDEX idx_career_board_comment_root_created_at ON career_board_comment (root_comment_id, created_at);
+CREATE INDEX idx_career_board_comment_post_depth ON career_board_comment (post_id, depth);
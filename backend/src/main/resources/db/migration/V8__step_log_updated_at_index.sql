@@ -0,0 +1,2 @@
+CREATE INDEX idx_recruitment_step_log_updated_at ON recruitment_step_log (updated_at);
+CREATE INDEX idx_rolling_step_log_updated_at ON rolling_step_log (updated_at);
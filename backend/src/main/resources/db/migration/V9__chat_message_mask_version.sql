@@ -0,0 +1 @@
+ALTER TABLE chat_message ADD COLUMN mask_version VARCHAR(16) NULL;
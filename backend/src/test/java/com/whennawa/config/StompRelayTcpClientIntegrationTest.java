@@ -0,0 +1,221 @@
+package com.whennawa.config;
+
+import com.whennawa.service.ChatDeliveryFilter;
+import com.whennawa.service.UserBlockCache;
+import com.whennawa.util.LongSet;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpStompClient;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Relay mode against an embedded Artemis STOMP acceptor: a message published through the relay
+ * (as another backend instance would) reaches a subscriber connected directly to the broker, and a
+ * relayed client session still sees the chat sender header the delivery filter depends on.
+ */
+class StompRelayTcpClientIntegrationTest {
+    private static final String CLIENT_SESSION_ID = "client-session";
+
+    private EmbeddedActiveMQ artemis;
+    private StompBrokerRelayMessageHandler relayHandler;
+    private ExecutorSubscribableChannel clientOutboundChannel;
+    private ReactorNettyTcpStompClient subscriberClient;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        port = freePort();
+        artemis = new EmbeddedActiveMQ();
+        artemis.setConfiguration(new ConfigurationImpl()
+            .setPersistenceEnabled(false)
+            .setSecurityEnabled(false)
+            .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port + "?protocols=STOMP"));
+        artemis.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (relayHandler != null) {
+            relayHandler.stop();
+        }
+        if (subscriberClient != null) {
+            subscriberClient.shutdown();
+        }
+        artemis.stop();
+    }
+
+    @Test
+    void relaysBrokerMessagesThroughExternalBroker() throws Exception {
+        startRelay();
+
+        BlockingQueue<String> received = new ArrayBlockingQueue<>(1);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        subscriberClient = new ReactorNettyTcpStompClient("127.0.0.1", port);
+        subscriberClient.setMessageConverter(new StringMessageConverter());
+        StompSession session = subscriberClient.connectAsync(new StompSessionHandlerAdapter() { })
+            .get(10, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+        session.subscribe("/sub/chat/1", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.offer((String) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        relayHandler.handleMessage(brokerMessage("/sub/chat/1", "hello"));
+
+        assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo("hello");
+    }
+
+    @Test
+    void senderHeaderSurvivesTheRelaySoBlockedSendersAreFiltered() throws Exception {
+        startRelay();
+        BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+        clientOutboundChannel.subscribe(outbound::offer);
+
+        UserBlockCache userBlockCache = mock(UserBlockCache.class);
+        when(userBlockCache.get(42L)).thenReturn(LongSet.of(List.of(7L)));
+        ChatDeliveryFilter filter = new ChatDeliveryFilter(userBlockCache);
+
+        relayHandler.handleMessage(clientFrame(StompCommand.CONNECT, accessor -> {
+            accessor.setAcceptVersion("1.1,1.2");
+            accessor.setHeartbeat(0, 0);
+        }));
+        awaitCommand(outbound, StompCommand.CONNECTED);
+        relayHandler.handleMessage(subscribeFrame());
+        awaitCommand(outbound, StompCommand.RECEIPT);
+        filter.onSubscribe(new SessionSubscribeEvent(this, subscribeFrame()));
+
+        relayHandler.handleMessage(ChatDeliveryFilter.withSender(7L)
+            .postProcessMessage(brokerMessage("/sub/chat/room/1", "blocked")));
+        relayHandler.handleMessage(ChatDeliveryFilter.withSender(8L)
+            .postProcessMessage(brokerMessage("/sub/chat/room/1", "allowed")));
+
+        Message<?> fromBlocked = awaitCommand(outbound, StompCommand.MESSAGE);
+        Message<?> fromOther = awaitCommand(outbound, StompCommand.MESSAGE);
+        assertThat(StompHeaderAccessor.wrap(fromBlocked).getFirstNativeHeader(ChatDeliveryFilter.SENDER_HEADER))
+            .isEqualTo("7");
+        assertThat(filter.shouldDeliver(fromBlocked)).isFalse();
+        assertThat(filter.shouldDeliver(fromOther)).isTrue();
+    }
+
+    @Test
+    void backoffGrowsUntilTheConfiguredMaximum() {
+        StompRelayTcpClient.BackoffReconnectStrategy strategy =
+            new StompRelayTcpClient.BackoffReconnectStrategy(1000, 30000);
+
+        assertThat(strategy.getTimeToNextAttempt(0)).isEqualTo(1000L);
+        assertThat(strategy.getTimeToNextAttempt(3)).isEqualTo(8000L);
+        assertThat(strategy.getTimeToNextAttempt(10)).isEqualTo(30000L);
+    }
+
+    private void startRelay() throws InterruptedException {
+        AppProperties.WebSocket.Relay relay = new AppProperties.WebSocket.Relay();
+        relay.setHost("127.0.0.1");
+        relay.setPort(port);
+        relay.setReconnectInitialMs(100);
+
+        CountDownLatch brokerAvailable = new CountDownLatch(1);
+        clientOutboundChannel = new ExecutorSubscribableChannel();
+        relayHandler = new StompBrokerRelayMessageHandler(
+            new ExecutorSubscribableChannel(),
+            clientOutboundChannel,
+            new ExecutorSubscribableChannel(),
+            List.of(WebSocketConfig.BROKER_PREFIXES)
+        );
+        relayHandler.setTcpClient(new StompRelayTcpClient(relay));
+        relayHandler.setApplicationEventPublisher(event -> {
+            if (event instanceof BrokerAvailabilityEvent availability && availability.isBrokerAvailable()) {
+                brokerAvailable.countDown();
+            }
+        });
+        relayHandler.start();
+        assertThat(brokerAvailable.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static Message<byte[]> subscribeFrame() {
+        return clientFrame(StompCommand.SUBSCRIBE, accessor -> {
+            accessor.setSubscriptionId("sub-1");
+            accessor.setDestination("/sub/chat/room/1");
+            accessor.setReceipt("subscribed");
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put(WebSocketAuthHandshakeInterceptor.USER_ID_ATTR, 42L);
+            accessor.setSessionAttributes(attributes);
+        });
+    }
+
+    private static Message<byte[]> clientFrame(StompCommand command, Consumer<StompHeaderAccessor> customizer) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(CLIENT_SESSION_ID);
+        customizer.accept(accessor);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> awaitCommand(BlockingQueue<Message<?>> outbound, StompCommand command)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Message<?> message = outbound.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null && StompHeaderAccessor.wrap(message).getCommand() == command) {
+                return message;
+            }
+        }
+        throw new AssertionError("No " + command + " frame relayed");
+    }
+
+    private static Message<byte[]> brokerMessage(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.TEXT_PLAIN);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.whennawa.security;
 
 import com.whennawa.entity.User;
-import com.whennawa.repository.UserRepository;
 import com.whennawa.service.AuthCookieService;
+import com.whennawa.service.RefreshTokenCoalescer;
 import com.whennawa.service.RefreshTokenService;
 import com.whennawa.service.RefreshTokenService.RotationResult;
 import io.jsonwebtoken.JwtException;
@@ -32,14 +32,14 @@ class JwtAuthenticationFilterTest {
     @Test
     void expiredAccessToken_triggersRefreshAndSetsNewTokens() throws Exception {
         JwtService jwtService = mock(JwtService.class);
-        UserRepository userRepository = mock(UserRepository.class);
+        UserPrincipalCache userPrincipalCache = mock(UserPrincipalCache.class);
         RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
         AuthCookieService authCookieService = mock(AuthCookieService.class);
 
         JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
             jwtService,
-            userRepository,
-            refreshTokenService,
+            userPrincipalCache,
+            new RefreshTokenCoalescer(refreshTokenService, jwtService),
             authCookieService);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
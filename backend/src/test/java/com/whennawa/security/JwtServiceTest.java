@@ -0,0 +1,79 @@
+package com.whennawa.security;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.entity.User;
+import io.jsonwebtoken.Claims;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceTest {
+
+    @Test
+    void parseToken_cachesAccessTokenClaims() {
+        JwtService jwtService = jwtService(10);
+        String token = jwtService.createAccessToken(userWithId(1L));
+
+        Claims first = jwtService.parseToken(token);
+        assertThat(jwtService.isClaimsCached(token)).isTrue();
+        first.put("role", "ADMIN");
+        Claims second = jwtService.parseToken(token);
+
+        assertThat(jwtService.getUserId(second)).isEqualTo(1L);
+        assertThat(second.get("role")).isEqualTo("USER");
+    }
+
+    @Test
+    void parseToken_missesForOtherAndRefreshTokens() {
+        JwtService jwtService = jwtService(10);
+        String access = jwtService.createAccessToken(userWithId(1L));
+        String other = jwtService.createAccessToken(userWithId(2L));
+        String refresh = jwtService.createRefreshToken(userWithId(1L));
+
+        jwtService.parseToken(access);
+        assertThat(jwtService.isClaimsCached(other)).isFalse();
+        assertThat(jwtService.getUserId(jwtService.parseToken(other))).isEqualTo(2L);
+        jwtService.parseToken(refresh);
+
+        assertThat(jwtService.isClaimsCached(other)).isTrue();
+        assertThat(jwtService.isClaimsCached(refresh)).isFalse();
+    }
+
+    @Test
+    void parseToken_evictsLeastRecentlyUsedEntry() {
+        JwtService jwtService = jwtService(2);
+        String first = jwtService.createAccessToken(userWithId(1L));
+        String second = jwtService.createAccessToken(userWithId(2L));
+        String third = jwtService.createAccessToken(userWithId(3L));
+
+        jwtService.parseToken(first);
+        jwtService.parseToken(second);
+        jwtService.parseToken(first);
+        jwtService.parseToken(third);
+
+        assertThat(jwtService.isClaimsCached(first)).isTrue();
+        assertThat(jwtService.isClaimsCached(second)).isFalse();
+        assertThat(jwtService.isClaimsCached(third)).isTrue();
+    }
+
+    private JwtService jwtService(int maxEntries) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getJwt().setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        appProperties.getJwt().setClaimsCacheMaxEntries(maxEntries);
+        return new JwtService(appProperties);
+    }
+
+    private User userWithId(Long id) {
+        User user = new User("user" + id + "@example.com");
+        try {
+            Field field = User.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(user, id);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to set user id for test", ex);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,85 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.ChatRoomMemberRepository;
+import com.whennawa.util.NicknameGenerator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatNicknamePoolTest {
+    private static final Long ROOM = 1L;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+    private final NicknameGenerator nicknameGenerator = spy(new NicknameGenerator());
+    private final ChatNicknamePool pool =
+        new ChatNicknamePool(chatRoomMemberRepository, nicknameGenerator, new AppProperties());
+
+    @Test
+    void allocate_skipsNicknamesTakenInTheRoom() {
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(ROOM))
+            .thenReturn(List.of(nicknameGenerator.nicknameAt(5), "legacy-name"));
+        doReturn(5, 6).when(nicknameGenerator).randomIndex();
+
+        assertThat(pool.allocate(ROOM)).isEqualTo(nicknameGenerator.nicknameAt(6));
+    }
+
+    @Test
+    void allocate_seedsEachRoomOnce() {
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(ROOM)).thenReturn(List.of());
+        doReturn(5, 6).when(nicknameGenerator).randomIndex();
+
+        pool.allocate(ROOM);
+        pool.allocate(ROOM);
+
+        verify(chatRoomMemberRepository, times(1)).findNicknamesByCompanyId(ROOM);
+    }
+
+    @Test
+    void release_makesTheNicknameAvailableAgain() {
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(ROOM)).thenReturn(List.of());
+        doReturn(10).when(nicknameGenerator).randomIndex();
+        String first = pool.allocate(ROOM);
+
+        pool.release(ROOM, first);
+
+        assertThat(pool.allocate(ROOM)).isEqualTo(first);
+    }
+
+    @Test
+    void allocate_scansForAFreeSlotWhenRandomProbesCollide() {
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(ROOM)).thenReturn(List.of());
+        doReturn(10).when(nicknameGenerator).randomIndex();
+        pool.allocate(ROOM);
+
+        // 모든 무작위 시도가 10 에 부딪히면 10 이 속한 word 의 첫 빈 자리를 쓴다
+        assertThat(pool.allocate(ROOM)).isEqualTo(nicknameGenerator.nicknameAt(0));
+        assertThat(pool.allocate(ROOM)).isEqualTo(nicknameGenerator.nicknameAt(1));
+    }
+
+    @Test
+    void rooms_allocateIndependently() {
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(ROOM)).thenReturn(List.of());
+        when(chatRoomMemberRepository.findNicknamesByCompanyId(2L)).thenReturn(List.of());
+        doReturn(10).when(nicknameGenerator).randomIndex();
+
+        assertThat(pool.allocate(ROOM)).isEqualTo(pool.allocate(2L));
+    }
+
+    @Test
+    void allocate_requiresACompany() {
+        assertThatThrownBy(() -> pool.allocate(null))
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
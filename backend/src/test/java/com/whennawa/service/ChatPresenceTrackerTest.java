@@ -0,0 +1,129 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.chat.ChatPresenceResponse;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatPresenceTrackerTest {
+    private static final Long ROOM = 7L;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChatPresenceStore chatPresenceStore = mock(ChatPresenceStore.class);
+
+    @Test
+    void sessionCountsOncePerRoomAcrossSubscriptions() {
+        ChatPresenceTracker tracker = tracker(AppProperties.WebSocket.BrokerMode.SIMPLE, 2000);
+
+        tracker.onSubscribe(subscribe("s1", "sub-0", ROOM));
+        tracker.onSubscribe(subscribe("s1", "sub-1", ROOM));
+        tracker.onSubscribe(subscribe("s2", "sub-0", ROOM));
+
+        assertThat(tracker.count(ROOM)).isEqualTo(2L);
+    }
+
+    @Test
+    void leavingReleasesTheRoomAndBroadcastsTheChange() {
+        ChatPresenceTracker tracker = tracker(AppProperties.WebSocket.BrokerMode.SIMPLE, 2000);
+        tracker.onSubscribe(subscribe("s1", "sub-0", ROOM));
+        tracker.onSubscribe(subscribe("s1", "sub-1", ROOM));
+        tracker.onSubscribe(subscribe("s2", "sub-0", ROOM));
+
+        tracker.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        assertThat(tracker.count(ROOM)).isEqualTo(2L);
+        tracker.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        assertThat(tracker.count(ROOM)).isEqualTo(1L);
+        tracker.onDisconnect(disconnect("s2"));
+        tracker.onDisconnect(disconnect("s2"));
+        assertThat(tracker.count(ROOM)).isZero();
+
+        tracker.broadcastChanges();
+        verify(messagingTemplate).convertAndSend(
+            ChatPresenceTracker.presenceDestination(ROOM), new ChatPresenceResponse(ROOM, 0L));
+    }
+
+    @Test
+    void subscribeProcessedAfterDisconnectIsIgnored() {
+        ChatPresenceTracker tracker = tracker(AppProperties.WebSocket.BrokerMode.SIMPLE, 2000);
+
+        tracker.onDisconnect(disconnect("s1"));
+        tracker.onSubscribe(subscribe("s1", "sub-0", ROOM));
+
+        assertThat(tracker.count(ROOM)).isZero();
+    }
+
+    @Test
+    void relayModeAddsLiveLocalSessionsToCachedSharedTotal() {
+        ChatPresenceTracker tracker = tracker(AppProperties.WebSocket.BrokerMode.RELAY, 60_000);
+        // 이 인스턴스 1 + 다른 인스턴스 3
+        when(chatPresenceStore.total(ROOM)).thenReturn(4L);
+        tracker.onSubscribe(subscribe("s1", "sub-0", ROOM));
+        tracker.broadcastChanges();
+        verify(chatPresenceStore).save(Map.of(ROOM, 1L));
+
+        assertThat(tracker.count(ROOM)).isEqualTo(4L);
+        tracker.onSubscribe(subscribe("s2", "sub-0", ROOM));
+        assertThat(tracker.count(ROOM)).isEqualTo(5L);
+
+        verify(chatPresenceStore, times(1)).total(ROOM);
+    }
+
+    @Test
+    void relayModeDropsOtherInstancesOnceTheirRowsExpire() {
+        ChatPresenceTracker tracker = tracker(AppProperties.WebSocket.BrokerMode.RELAY, 0);
+        // 방송 때 한 번, 그 뒤 조회마다 한 번. 마지막에는 다른 인스턴스 행이 만료됐다
+        when(chatPresenceStore.total(ROOM)).thenReturn(4L, 4L, 1L);
+        tracker.onSubscribe(subscribe("s1", "sub-0", ROOM));
+        tracker.broadcastChanges();
+
+        assertThat(tracker.count(ROOM)).isEqualTo(4L);
+        assertThat(tracker.count(ROOM)).isEqualTo(1L);
+    }
+
+    private ChatPresenceTracker tracker(AppProperties.WebSocket.BrokerMode mode, long sharedCountTtlMs) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getWebsocket().getBroker().setMode(mode);
+        appProperties.getChat().getPresence().setSharedCountTtlMs(sharedCountTtlMs);
+        return new ChatPresenceTracker(messagingTemplate, chatPresenceStore, appProperties);
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, Long companyId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/sub/chat/room/" + companyId);
+        return new SessionSubscribeEvent(this, message(accessor));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, message(accessor));
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, message(accessor), sessionId, CloseStatus.NORMAL);
+    }
+
+    private Message<byte[]> message(SimpMessageHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
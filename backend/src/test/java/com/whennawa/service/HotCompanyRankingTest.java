@@ -0,0 +1,118 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.dto.home.HomeHotCompanyItem;
+import com.whennawa.repository.HotCompanyActivityRow;
+import com.whennawa.repository.RecruitmentStepLogRepository;
+import com.whennawa.repository.RollingStepLogRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotCompanyRankingTest {
+    private static final LocalDateTime NOW = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+
+    private final RecruitmentStepLogRepository recruitmentStepLogRepository = mock(RecruitmentStepLogRepository.class);
+    private final RollingStepLogRepository rollingStepLogRepository = mock(RollingStepLogRepository.class);
+    private final CompanyIdCache companyIdCache = mock(CompanyIdCache.class);
+    private final AppProperties appProperties = new AppProperties();
+
+    @Test
+    void ranksCompaniesByReportedActivity() {
+        HotCompanyRanking ranking = ranking();
+        when(companyIdCache.resolve("Beta")).thenReturn(20L);
+
+        ranking.record(10L, "Alpha", "서류", 1, NOW);
+        ranking.record(20L, "Beta", "면접", 3, NOW);
+
+        List<HomeHotCompanyItem> top = ranking.top(10);
+        assertThat(names(top)).containsExactly("Beta", "Alpha");
+        assertThat(top.get(0).getCompanyId()).isEqualTo(20L);
+        assertThat(top.get(0).getActivityCount()).isEqualTo(3);
+        assertThat(top.get(0).getLatestStepName()).isEqualTo("면접");
+    }
+
+    @Test
+    void olderActivityDecaysWithTheHalfLife() {
+        appProperties.getHome().setHotHalfLifeHours(24);
+        HotCompanyRanking ranking = ranking();
+
+        // 이틀 전 3건은 지금 0.75건 만큼의 무게
+        ranking.record(10L, "Alpha", "서류", 3, NOW.minusHours(48));
+        ranking.record(20L, "Beta", "서류", 1, NOW);
+
+        assertThat(names(ranking.top(10))).containsExactly("Beta", "Alpha");
+    }
+
+    @Test
+    void keepsOnlyTheConfiguredTopK() {
+        appProperties.getHome().setHotTopK(2);
+        HotCompanyRanking ranking = ranking();
+
+        ranking.record(10L, "Alpha", "서류", 1, NOW);
+        ranking.record(20L, "Beta", "서류", 3, NOW);
+        ranking.record(30L, "Gamma", "서류", 2, NOW);
+        ranking.record(10L, "Alpha", "서류", 5, NOW);
+
+        assertThat(names(ranking.top(10))).containsExactly("Alpha", "Beta");
+        assertThat(names(ranking.top(1))).containsExactly("Alpha");
+    }
+
+    @Test
+    void breaksTiesByRecencyThenName() {
+        HotCompanyRanking ranking = ranking();
+
+        ranking.record(10L, "beta", "서류", 1, NOW);
+        ranking.record(20L, "Alpha", "서류", 1, NOW);
+        ranking.record(30L, "Gamma", "서류", 1, NOW.plusMinutes(30));
+
+        assertThat(names(ranking.top(10))).containsExactly("Gamma", "Alpha", "beta");
+    }
+
+    @Test
+    void ignoresEventsWithoutCompanyOrStep() {
+        HotCompanyRanking ranking = ranking();
+
+        ranking.record(10L, " ", "서류", 1, NOW);
+        ranking.record(20L, "Beta", null, 1, NOW);
+
+        assertThat(ranking.top(10)).isEmpty();
+    }
+
+    @Test
+    void seedReplacesTheRankingWithRecentStepLogs() {
+        HotCompanyRanking ranking = ranking();
+        ranking.record(10L, "Alpha", "서류", 9, NOW);
+        HotCompanyActivityRow regular = row(20L, "Beta", 2);
+        HotCompanyActivityRow rolling = row(30L, "Gamma", 1);
+        when(recruitmentStepLogRepository.findHotCompanyActivitySince(any())).thenReturn(List.of(regular));
+        when(rollingStepLogRepository.findHotCompanyActivitySince(any())).thenReturn(List.of(rolling));
+
+        ranking.seed();
+
+        assertThat(names(ranking.top(10))).containsExactly("Beta", "Gamma");
+    }
+
+    private HotCompanyRanking ranking() {
+        return new HotCompanyRanking(recruitmentStepLogRepository, rollingStepLogRepository, companyIdCache, appProperties);
+    }
+
+    private HotCompanyActivityRow row(Long companyId, String companyName, int reportCount) {
+        HotCompanyActivityRow row = mock(HotCompanyActivityRow.class);
+        when(row.getCompanyId()).thenReturn(companyId);
+        when(row.getCompanyName()).thenReturn(companyName);
+        when(row.getStepName()).thenReturn("서류");
+        when(row.getReportCount()).thenReturn(reportCount);
+        when(row.getUpdatedAt()).thenReturn(NOW);
+        return row;
+    }
+
+    private List<String> names(List<HomeHotCompanyItem> items) {
+        return items.stream().map(HomeHotCompanyItem::getCompanyName).toList();
+    }
+}
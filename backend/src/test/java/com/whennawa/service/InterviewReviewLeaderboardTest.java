@@ -0,0 +1,108 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.entity.InterviewReview;
+import com.whennawa.repository.InterviewReviewRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InterviewReviewLeaderboardTest {
+    private final InterviewReviewRepository interviewReviewRepository = mock(InterviewReviewRepository.class);
+    private final LikeCounterService likeCounterService = mock(LikeCounterService.class);
+
+    @Test
+    void topReviewIds_ranksByLikesThenNewestId() {
+        InterviewReviewLeaderboard leaderboard = leaderboard(300);
+        stubLiked(1L, review(1L, 3), review(2L, 5), review(3L, 5));
+
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(leaderboard.topReviewIds(1L, 2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void pendingLikesCountTowardsTheRanking() {
+        InterviewReviewLeaderboard leaderboard = leaderboard(300);
+        stubLiked(1L, review(1L, 3), review(2L, 5));
+        when(likeCounterService.currentCount(LikeCounterService.LikeTarget.INTERVIEW_REVIEW, 1L, 3)).thenReturn(8);
+
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void changesAndRemovalsReorderWithoutReloading() {
+        InterviewReviewLeaderboard leaderboard = leaderboard(300);
+        stubLiked(1L, review(1L, 3), review(2L, 5), review(3L, 4));
+        leaderboard.topReviewIds(1L, 10);
+
+        leaderboard.changed(1L, 1L, 9);
+        leaderboard.changed(1L, 4L, 0);
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(1L, 2L, 3L, 4L);
+        leaderboard.removed(1L, 2L);
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(1L, 3L, 4L);
+
+        verify(interviewReviewRepository, times(1)).findLikedSlice(eq(1L), isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    void companiesAreRankedSeparately() {
+        InterviewReviewLeaderboard leaderboard = leaderboard(300);
+        stubLiked(1L, review(1L, 3));
+        stubLiked(2L, review(2L, 1));
+        leaderboard.topReviewIds(1L, 10);
+        leaderboard.topReviewIds(2L, 10);
+
+        leaderboard.changed(2L, 5L, 7);
+
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(1L);
+        assertThat(leaderboard.topReviewIds(2L, 10)).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void rankingIsReloadedAfterTheTtl() throws InterruptedException {
+        InterviewReviewLeaderboard leaderboard = leaderboard(1);
+        stubLiked(1L, review(1L, 3), review(2L, 5));
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(2L, 1L);
+
+        // 다른 인스턴스에서 좋아요가 바뀐 경우
+        stubLiked(1L, review(1L, 6), review(2L, 5));
+        Thread.sleep(1100);
+
+        assertThat(leaderboard.topReviewIds(1L, 10)).containsExactly(1L, 2L);
+        verify(interviewReviewRepository, times(2)).findLikedSlice(eq(1L), isNull(), isNull(), any(Pageable.class));
+    }
+
+    private InterviewReviewLeaderboard leaderboard(long ttlSeconds) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getReview().setLeaderboardTtlSeconds(ttlSeconds);
+        when(likeCounterService.currentCount(eq(LikeCounterService.LikeTarget.INTERVIEW_REVIEW), anyLong(), any()))
+            .thenAnswer(invocation -> {
+                Integer persisted = invocation.getArgument(2);
+                return persisted == null ? 0 : persisted;
+            });
+        return new InterviewReviewLeaderboard(interviewReviewRepository, likeCounterService, appProperties);
+    }
+
+    private void stubLiked(Long companyId, InterviewReview... reviews) {
+        when(interviewReviewRepository.findLikedSlice(eq(companyId), isNull(), isNull(), any(Pageable.class)))
+            .thenReturn(List.of(reviews));
+    }
+
+    private InterviewReview review(Long reviewId, int likeCount) {
+        InterviewReview review = new InterviewReview();
+        review.setReviewId(reviewId);
+        review.setLikeCount(likeCount);
+        review.setActive(true);
+        return review;
+    }
+}
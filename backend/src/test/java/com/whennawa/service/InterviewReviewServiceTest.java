@@ -0,0 +1,72 @@
+package com.whennawa.service;
+
+import com.whennawa.dto.board.CursorPageResponse;
+import com.whennawa.dto.interview.InterviewReviewItem;
+import com.whennawa.dto.interview.InterviewReviewSort;
+import com.whennawa.entity.Company;
+import com.whennawa.entity.InterviewReview;
+import com.whennawa.repository.CompanyRepository;
+import com.whennawa.repository.InterviewReviewLikeRepository;
+import com.whennawa.repository.InterviewReviewRepository;
+import com.whennawa.repository.UserRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InterviewReviewServiceTest {
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final InterviewReviewRepository interviewReviewRepository = mock(InterviewReviewRepository.class);
+    private final InterviewReviewLeaderboard interviewReviewLeaderboard = mock(InterviewReviewLeaderboard.class);
+    private final InterviewReviewService interviewReviewService = new InterviewReviewService(
+        companyRepository,
+        mock(UserRepository.class),
+        interviewReviewRepository,
+        mock(InterviewReviewLikeRepository.class),
+        mock(ProfanityMasker.class),
+        mock(ApproximateCountCache.class),
+        mock(LikeCounterService.class),
+        interviewReviewLeaderboard
+    );
+
+    // 순위가 갱신되기 전에 비활성화되거나 다른 회사로 옮겨진 리뷰는 첫 페이지에서 빠진다
+    @Test
+    void firstLikesPage_keepsLeaderboardOrderAndDropsReviewsNoLongerInTheCompany() {
+        Company acme = company(1L, "acme");
+        Company other = company(2L, "other");
+        when(companyRepository.findByCompanyNameIgnoreCaseAndIsActiveTrue("acme")).thenReturn(Optional.of(acme));
+        when(interviewReviewLeaderboard.topReviewIds(1L, 21)).thenReturn(List.of(13L, 10L, 11L, 12L));
+        when(interviewReviewRepository.findAllById(List.of(13L, 10L, 11L, 12L))).thenReturn(List.of(
+            review(10L, acme, true),
+            review(11L, other, true),
+            review(12L, acme, false),
+            review(13L, acme, true)
+        ));
+
+        CursorPageResponse<InterviewReviewItem> page = interviewReviewService.listPageByCursor(
+            "acme", null, null, null, null, InterviewReviewSort.LIKES, null);
+
+        assertThat(page.items()).extracting(InterviewReviewItem::reviewId).containsExactly(13L, 10L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    private Company company(Long companyId, String name) {
+        Company company = new Company();
+        company.setCompanyId(companyId);
+        company.setCompanyName(name);
+        company.setActive(true);
+        return company;
+    }
+
+    private InterviewReview review(Long reviewId, Company company, boolean active) {
+        InterviewReview review = new InterviewReview();
+        review.setReviewId(reviewId);
+        review.setCompany(company);
+        review.setActive(active);
+        review.setLikeCount(0);
+        return review;
+    }
+}
@@ -0,0 +1,86 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.CompanyNotificationRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationUnreadCounterTest {
+    private final CompanyNotificationRepository repository = mock(CompanyNotificationRepository.class);
+    private final NotificationUnreadCounter counter = new NotificationUnreadCounter(repository, new AppProperties());
+
+    @Test
+    void incrementsAndDecrementsLoadedCount() {
+        when(repository.countByUser_IdAndIsReadFalse(1L)).thenReturn(3L);
+
+        assertThat(counter.get(1L)).isEqualTo(3L);
+        counter.increment(1L);
+        counter.decrement(1L);
+        counter.decrement(1L);
+
+        assertThat(counter.peek(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    void coldUserIsNotPeekedOrAdjusted() {
+        counter.increment(7L);
+
+        assertThat(counter.peek(7L)).isNull();
+    }
+
+    @Test
+    void incrementDuringLoadTriggersReload() {
+        AtomicInteger calls = new AtomicInteger();
+        when(repository.countByUser_IdAndIsReadFalse(1L)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                // 첫 조회가 끝나기 전에 새 알림이 커밋되고 증가가 들어온다
+                counter.increment(1L);
+                return 4L;
+            }
+            return 5L;
+        });
+
+        assertThat(counter.get(1L)).isEqualTo(5L);
+        verify(repository, times(2)).countByUser_IdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void reconcileSkipsEntriesChangedWhileCounting() {
+        when(repository.countByUser_IdAndIsReadFalse(1L)).thenReturn(3L);
+        when(repository.countByUser_IdAndIsReadFalse(2L)).thenReturn(3L);
+        counter.get(1L);
+        counter.get(2L);
+        when(repository.countUnreadByUserIds(anyCollection())).thenAnswer(invocation -> {
+            // 집계 쿼리가 읽은 뒤에 사용자 1 이 알림을 읽는다
+            counter.decrement(1L);
+            return List.of(row(1L, 3L), row(2L, 1L));
+        });
+
+        counter.reconcile();
+
+        assertThat(counter.peek(1L)).isEqualTo(2L);
+        assertThat(counter.peek(2L)).isEqualTo(1L);
+    }
+
+    private static CompanyNotificationRepository.UnreadCountRow row(Long userId, Long unreadCount) {
+        return new CompanyNotificationRepository.UnreadCountRow() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnreadCount() {
+                return unreadCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.whennawa.service;
+
+import com.whennawa.entity.User;
+import com.whennawa.exception.AuthTokenException;
+import com.whennawa.security.JwtService;
+import com.whennawa.service.RefreshTokenService.RotationResult;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenCoalescerTest {
+
+    @Test
+    void concurrentRotations_shareOneResult() throws Exception {
+        RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+        JwtService jwtService = mock(JwtService.class);
+        RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(refreshTokenService, jwtService);
+        User user = new User("user@example.com");
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(refreshTokenService.rotateToken("refresh")).thenAnswer(invocation -> {
+            rotating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new RotationResult(user, "new-refresh", LocalDateTime.now().plusDays(1));
+        });
+        when(jwtService.createAccessToken(user)).thenReturn("new-access");
+
+        AtomicReference<RefreshTokenCoalescer.RotatedTokens> first = new AtomicReference<>();
+        AtomicReference<RefreshTokenCoalescer.RotatedTokens> second = new AtomicReference<>();
+        Thread leader = new Thread(() -> first.set(coalescer.rotate("refresh")));
+        leader.start();
+        assertThat(rotating.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = new Thread(() -> second.set(coalescer.rotate("refresh")));
+        follower.start();
+        awaitWaiting(follower);
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        assertThat(first.get().refreshToken()).isEqualTo("new-refresh");
+        assertThat(second.get()).isSameAs(first.get());
+        verify(refreshTokenService, times(1)).rotateToken("refresh");
+    }
+
+    @Test
+    void replayAfterRotation_isNotGivenTheNewPair() {
+        RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+        JwtService jwtService = mock(JwtService.class);
+        RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(refreshTokenService, jwtService);
+        User user = new User("user@example.com");
+        when(refreshTokenService.rotateToken("refresh"))
+            .thenReturn(new RotationResult(user, "new-refresh", LocalDateTime.now().plusDays(1)))
+            .thenThrow(new AuthTokenException("Refresh token not found"));
+        when(jwtService.createAccessToken(user)).thenReturn("new-access");
+
+        assertThat(coalescer.rotate("refresh").refreshToken()).isEqualTo("new-refresh");
+        assertThatThrownBy(() -> coalescer.rotate("refresh")).isInstanceOf(AuthTokenException.class);
+        verify(refreshTokenService, times(2)).rotateToken("refresh");
+    }
+
+    @Test
+    void failedRotation_isNotKept() {
+        RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+        JwtService jwtService = mock(JwtService.class);
+        RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(refreshTokenService, jwtService);
+        User user = new User("user@example.com");
+        when(refreshTokenService.rotateToken("refresh"))
+            .thenThrow(new AuthTokenException("Refresh token expired"))
+            .thenReturn(new RotationResult(user, "new-refresh", LocalDateTime.now().plusDays(1)));
+        when(jwtService.createAccessToken(user)).thenReturn("new-access");
+
+        assertThatThrownBy(() -> coalescer.rotate("refresh")).isInstanceOf(AuthTokenException.class);
+        assertThat(coalescer.rotate("refresh").accessToken()).isEqualTo("new-access");
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
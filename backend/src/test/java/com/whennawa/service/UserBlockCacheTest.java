@@ -0,0 +1,72 @@
+package com.whennawa.service;
+
+import com.whennawa.config.AppProperties;
+import com.whennawa.repository.UserBlockRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBlockCacheTest {
+    private final UserBlockRepository repository = mock(UserBlockRepository.class);
+
+    @Test
+    void cachesUntilBlockIsCommitted() {
+        UserBlockCache cache = new UserBlockCache(repository, properties(10, 30));
+        when(repository.findActiveBlockedUserIds(1L)).thenReturn(List.of(2L), List.of(2L, 3L));
+
+        assertThat(cache.get(1L).contains(3L)).isFalse();
+        assertThat(cache.get(1L).contains(3L)).isFalse();
+        cache.onBlockChanged(new UserBlockChangedEvent(1L));
+
+        assertThat(cache.get(1L).contains(3L)).isTrue();
+        verify(repository, times(2)).findActiveBlockedUserIds(1L);
+    }
+
+    @Test
+    void unblockIsVisibleAfterInvalidation() {
+        UserBlockCache cache = new UserBlockCache(repository, properties(10, 30));
+        when(repository.findActiveBlockedUserIds(1L)).thenReturn(List.of(2L), List.of());
+
+        assertThat(cache.get(1L).contains(2L)).isTrue();
+        cache.onBlockChanged(new UserBlockChangedEvent(1L));
+
+        assertThat(cache.get(1L).isEmpty()).isTrue();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBlocker() {
+        UserBlockCache cache = new UserBlockCache(repository, properties(1, 30));
+        when(repository.findActiveBlockedUserIds(1L)).thenReturn(List.of(2L));
+        when(repository.findActiveBlockedUserIds(5L)).thenReturn(List.of(6L));
+
+        cache.get(1L);
+        cache.get(5L);
+        cache.get(1L);
+
+        verify(repository, times(2)).findActiveBlockedUserIds(1L);
+        verify(repository, times(1)).findActiveBlockedUserIds(5L);
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        // 다른 인스턴스의 변경은 이벤트 없이 TTL 로만 반영된다
+        UserBlockCache cache = new UserBlockCache(repository, properties(10, 0));
+        when(repository.findActiveBlockedUserIds(1L)).thenReturn(List.of(2L), List.of());
+
+        assertThat(cache.get(1L).contains(2L)).isTrue();
+
+        assertThat(cache.get(1L).isEmpty()).isTrue();
+    }
+
+    private static AppProperties properties(int maxUsers, long ttlSeconds) {
+        AppProperties properties = new AppProperties();
+        properties.getBlock().setCacheMaxUsers(maxUsers);
+        properties.getBlock().setCacheTtlSeconds(ttlSeconds);
+        return properties;
+    }
+}
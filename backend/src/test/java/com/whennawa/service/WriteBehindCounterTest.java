@@ -0,0 +1,135 @@
+package com.whennawa.service;
+
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindCounterTest {
+    private static final String UPDATE_SQL = "UPDATE t SET c = c + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final StubTransactionManager transactionManager = new StubTransactionManager();
+    private final WriteBehindCounter counter =
+        new WriteBehindCounter(jdbcTemplate, new TransactionTemplate(transactionManager), UPDATE_SQL, "test");
+
+    @Test
+    void flush_writesMergedDeltasAndClearsThem() throws Exception {
+        counter.add(1L, 2);
+        counter.add(1L, 3);
+        counter.add(2L, 1);
+        counter.add(3L, 1);
+        counter.add(3L, -1);
+
+        counter.flush();
+
+        assertThat(writtenRows(1)).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 2L, 1L));
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.pending(2L)).isZero();
+    }
+
+    @Test
+    void pending_countsInFlightDeltasOnceWhileWriting() {
+        counter.add(1L, 5);
+        Map<String, Long> seen = new HashMap<>();
+        doAnswer(invocation -> {
+            seen.put("writing", counter.pending(1L));
+            counter.add(1L, 1);
+            seen.put("added", counter.pending(1L));
+            return new int[]{1};
+        }).when(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), any(BatchPreparedStatementSetter.class));
+
+        counter.flush();
+
+        assertThat(seen).containsEntry("writing", 5L).containsEntry("added", 6L);
+        assertThat(counter.pending(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    void failedBatch_staysPendingOnceAndIsRetriedWithNewDeltas() throws Exception {
+        counter.add(1L, 5);
+        when(jdbcTemplate.batchUpdate(eq(UPDATE_SQL), any(BatchPreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(new int[]{1});
+
+        counter.flush();
+        assertThat(counter.pending(1L)).isEqualTo(5L);
+
+        counter.add(1L, 2);
+        assertThat(counter.pending(1L)).isEqualTo(7L);
+        counter.flush();
+
+        assertThat(writtenRows(2)).containsExactlyEntriesOf(Map.of(1L, 7L));
+        assertThat(counter.pending(1L)).isZero();
+    }
+
+    @Test
+    void failedCommit_keepsBatchInFlight() {
+        counter.add(1L, 4);
+        transactionManager.failCommit = true;
+
+        counter.flush();
+
+        assertThat(counter.pending(1L)).isEqualTo(4L);
+    }
+
+    // 마지막 batchUpdate 호출의 (id, delta) 를 돌려준다
+    private Map<Long, Long> writtenRows(int calls) throws Exception {
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(eq(UPDATE_SQL), setter.capture());
+        BatchPreparedStatementSetter last = setter.getValue();
+        Map<Long, Long> rows = new HashMap<>();
+        for (int i = 0; i < last.getBatchSize(); i++) {
+            PreparedStatement ps = mock(PreparedStatement.class);
+            last.setValues(ps, i);
+            ArgumentCaptor<Integer> index = ArgumentCaptor.forClass(Integer.class);
+            ArgumentCaptor<Long> value = ArgumentCaptor.forClass(Long.class);
+            verify(ps, times(2)).setLong(index.capture(), value.capture());
+            assertThat(index.getAllValues()).containsExactly(1, 2);
+            rows.put(value.getAllValues().get(1), value.getAllValues().get(0));
+        }
+        return rows;
+    }
+
+    private static final class StubTransactionManager extends AbstractPlatformTransactionManager {
+        private boolean failCommit;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("commit failed");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
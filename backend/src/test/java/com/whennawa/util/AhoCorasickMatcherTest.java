@@ -0,0 +1,41 @@
+package com.whennawa.util;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void masksAsciiWordsCaseInsensitively() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("fuck"));
+
+        assertThat(matcher.replaceAll("what the FuCk", "***")).isEqualTo("what the ***");
+        assertThat(matcher.containsMatch("FUCK")).isTrue();
+    }
+
+    @Test
+    void masksKoreanWords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("시발", "존나"));
+
+        assertThat(matcher.replaceAll("아 시발 존나 늦네", "*")).isEqualTo("아 * * 늦네");
+    }
+
+    @Test
+    void prefersLeftmostLongestMatch() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("병신", "병신새끼", "새끼"));
+
+        assertThat(matcher.replaceAll("이 병신새끼야", "*")).isEqualTo("이 *야");
+    }
+
+    @Test
+    void returnsSameInstanceWhenNothingMatches() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("시발"));
+        String text = "오늘 면접 결과 나왔나요";
+
+        assertThat(matcher.replaceAll(text, "*")).isSameAs(text);
+        assertThat(matcher.containsMatch(text)).isFalse();
+        assertThat(AhoCorasickMatcher.empty().containsMatch(text)).isFalse();
+    }
+}
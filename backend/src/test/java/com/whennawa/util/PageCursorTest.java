@@ -0,0 +1,68 @@
+package com.whennawa.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void timeCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+
+        PageCursor decoded = PageCursor.decodeTimed(PageCursor.of(createdAt, 42L).encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void countCursorRoundTrips() {
+        PageCursor decoded = PageCursor.decodeCounted(PageCursor.of(17, 9L).encode());
+
+        assertThat(decoded.count()).isEqualTo(17L);
+        assertThat(decoded.id()).isEqualTo(9L);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = PageCursor.of(LocalDateTime.of(2024, 3, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void rejectsCursorOfTheOtherSortAsBadRequest() {
+        String countCursor = PageCursor.of(5, 1L).encode();
+        String timeCursor = PageCursor.of(LocalDateTime.of(2024, 3, 1, 0, 0), 1L).encode();
+
+        assertBadRequest(() -> PageCursor.decodeTimed(countCursor));
+        assertBadRequest(() -> PageCursor.decodeCounted(timeCursor));
+    }
+
+    @Test
+    void rejectsMalformedCursorsAsBadRequest() {
+        assertBadRequest(() -> PageCursor.decodeTimed("not base64!"));
+        assertBadRequest(() -> PageCursor.decodeTimed(encodeRaw("2024-03-01T00:00")));
+        assertBadRequest(() -> PageCursor.decodeTimed(encodeRaw("2024-03-01T00:00|abc")));
+        assertBadRequest(() -> PageCursor.decodeCounted(encodeRaw(Long.MAX_VALUE + "|1")));
+        assertBadRequest(() -> PageCursor.decodeCounted(encodeRaw("-1|1")));
+        assertBadRequest(() -> PageCursor.decodeCounted(" "));
+    }
+
+    private void assertBadRequest(Runnable decode) {
+        assertThatThrownBy(decode::run)
+            .isInstanceOf(ResponseStatusException.class)
+            .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,7 @@
+-- 댓글 트리: 최상위 댓글 id 와 깊이를 저장해 페이지 단위 트리 조회 / 하위 트리 삭제를 한 번에 처리
+ALTER TABLE career_board_comment
+  ADD COLUMN root_comment_id BIGINT NULL,
+  ADD COLUMN depth INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_career_board_comment_root_created_at ON career_board_comment (root_comment_id, created_at);
+CREATE INDEX idx_career_board_comment_post_depth ON career_board_comment (post_id, depth);
@@ -0,0 +1,3 @@
+-- 게시글 조회수. PostViewCounter 가 모아서 view_count = view_count + ? 로 반영한다
+ALTER TABLE career_board_post
+  ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- 전형별 좋아요순 목록. 필터 없는 좋아요순은 idx_interview_review_company_active_like 가 review_id 까지 정렬을 맡는다
+CREATE INDEX idx_interview_review_company_active_mode_like ON interview_review (company_id, is_active, recruitment_mode, like_count);
@@ -0,0 +1,7 @@
+-- write-behind 채팅 메시지 id 를 미리 나눠 주는 블록 카운터
+CREATE TABLE IF NOT EXISTS chat_message_id_block (
+  block_id TINYINT PRIMARY KEY,
+  next_id BIGINT NOT NULL
+);
+
+INSERT INTO chat_message_id_block (block_id, next_id) VALUES (1, 1);
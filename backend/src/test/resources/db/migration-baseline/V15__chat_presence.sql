@@ -0,0 +1,10 @@
+-- relay 모드에서 인스턴스별 채팅방 접속자 수를 합산하기 위한 테이블
+CREATE TABLE IF NOT EXISTS chat_presence (
+  instance_id VARCHAR(36) NOT NULL,
+  company_id BIGINT NOT NULL,
+  session_count BIGINT NOT NULL,
+  updated_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (instance_id, company_id)
+);
+
+CREATE INDEX idx_chat_presence_company_updated_at ON chat_presence (company_id, updated_at);